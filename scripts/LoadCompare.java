@@ -0,0 +1,101 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator used to compare platform-thread and virtual-thread mode.
+ *
+ * Each of CONCURRENCY virtual threads sends GET requests back to back for DURATION seconds
+ * (after a 10 second warm-up), so there are always CONCURRENCY requests in flight.
+ * Requires Java 21:
+ *
+ *   java scripts/LoadCompare.java http://localhost:8081/api/incidents?limit=50 2000 60
+ */
+public class LoadCompare {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8081/api/incidents?limit=50");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int warmupSeconds = 10;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        long warmupEnd = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long end = warmupEnd + durationSeconds * 1_000_000_000L;
+        LongAdder errors = new LongAdder();
+        List<long[]> latencies = new ArrayList<>();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                long[] samples = new long[1 << 16];
+                int[] count = new int[1];
+                latencies.add(samples);
+                executor.submit(() -> {
+                    long[] own = samples;
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= end) {
+                            break;
+                        }
+                        boolean ok;
+                        try {
+                            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long finished = System.nanoTime();
+                        if (start < warmupEnd || finished > end) {
+                            continue;
+                        }
+                        if (!ok) {
+                            errors.increment();
+                        } else if (count[0] < own.length - 1) {
+                            own[count[0]++] = finished - start;
+                        }
+                    }
+                    // The last slot carries the sample count back to the main thread
+                    own[own.length - 1] = count[0];
+                    return null;
+                });
+            }
+        }
+
+        int total = 0;
+        for (long[] samples : latencies) {
+            total += (int) samples[samples.length - 1];
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] samples : latencies) {
+            int n = (int) samples[samples.length - 1];
+            System.arraycopy(samples, 0, all, offset, n);
+            offset += n;
+        }
+        Arrays.sort(all);
+
+        System.out.printf("url=%s concurrency=%d duration=%ds%n", uri, concurrency, durationSeconds);
+        System.out.printf("requests=%d errors=%d throughput=%.0f req/s%n",
+                total, errors.sum(), total / (double) durationSeconds);
+        if (total > 0) {
+            System.out.printf("latency p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n",
+                    percentile(all, 50), percentile(all, 90), percentile(all, 99), all[all.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p / 100 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.incidenttracker.benchmark;
+
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic incident fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @return {@code count} fully populated incidents with realistic field lengths
+     */
+    static List<Incident> incidents(int count) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Incident> incidents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Status status = STATUSES[i % STATUSES.length];
+            LocalDateTime createdAt = base.plusMinutes(i);
+            incidents.add(Incident.builder()
+                    .id((long) i + 1)
+                    .title("Database connection pool exhausted on node " + i)
+                    .description("Requests are queueing for connections; p99 latency above 2s since the last deploy. "
+                            + "Investigate pool sizing and long-running transactions.")
+                    .priority(PRIORITIES[i % PRIORITIES.length])
+                    .status(status)
+                    .assignee(i % 5 == 0 ? null : "engineer" + (i % 40))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusMinutes(30))
+                    .resolvedAt(status == Status.RESOLVED || status == Status.CLOSED ? createdAt.plusHours(2) : null)
+                    .build());
+        }
+        return incidents;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.incidenttracker.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.incidenttracker.controller.IncidentController;
+import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.exception.GlobalExceptionHandler;
+import com.example.incidenttracker.exception.ResourceNotFoundException;
+import com.example.incidenttracker.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error rendering through {@link GlobalExceptionHandler}: building the ErrorResponse
+ * and serializing it to JSON. The handler's logger is switched off so log I/O
+ * does not dominate the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectWriter writer;
+    private MockHttpServletRequest request;
+    private ResourceNotFoundException notFound;
+    private ValidationException invalid;
+    private MethodArgumentNotValidException invalidBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+        handler = new GlobalExceptionHandler();
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        request = new MockHttpServletRequest("GET", "/api/incidents/42");
+        notFound = new ResourceNotFoundException("Incident not found with id: 42");
+        invalid = new ValidationException("Invalid cursor: abc");
+
+        IncidentRequest body = IncidentRequest.builder().title("").build();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(body, "incidentRequest");
+        bindingResult.addError(new FieldError("incidentRequest", "title", "Title is required"));
+        bindingResult.addError(new FieldError("incidentRequest", "assignee", "Assignee name must not exceed 100 characters"));
+        MethodParameter parameter = new MethodParameter(
+                IncidentController.class.getMethod("createIncident", IncidentRequest.class), 0);
+        invalidBody = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public byte[] resourceNotFound() throws Exception {
+        return writer.writeValueAsBytes(handler.handleResourceNotFound(notFound, request).getBody());
+    }
+
+    @Benchmark
+    public byte[] validationException() throws Exception {
+        return writer.writeValueAsBytes(handler.handleValidationException(invalid, request).getBody());
+    }
+
+    @Benchmark
+    public byte[] methodArgumentNotValid() throws Exception {
+        return writer.writeValueAsBytes(handler.handleValidationErrors(invalidBody, request).getBody());
+    }
+}
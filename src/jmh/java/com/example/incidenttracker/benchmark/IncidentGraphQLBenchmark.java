@@ -0,0 +1,98 @@
+package com.example.incidenttracker.benchmark;
+
+import com.example.incidenttracker.graphql.IncidentGraphQLController;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.service.IncidentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.execution.DefaultExecutionGraphQlService;
+import org.springframework.graphql.execution.GraphQlSource;
+import org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end GraphQL execution of the {@code incidents} query through
+ * {@link IncidentGraphQLController}: parsing, validation, controller dispatch and
+ * result completion, without HTTP. The service is stubbed to return a fixed list,
+ * so database time is excluded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncidentGraphQLBenchmark {
+
+    private static final String QUERY = "{ incidents { id title description priority status assignee createdAt updatedAt resolvedAt } }";
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private AnnotationConfigApplicationContext context;
+    private ExecutionGraphQlService graphQlService;
+    private int requestId;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Incident> incidents = BenchmarkData.incidents(size);
+        IncidentService incidentService = (IncidentService) Proxy.newProxyInstance(
+                IncidentService.class.getClassLoader(),
+                new Class<?>[] {IncidentService.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getAllIncidents", "getIncidents" -> incidents;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "IncidentService stub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(IncidentService.class, () -> incidentService);
+        context.registerBean(IncidentGraphQLController.class);
+        context.refresh();
+
+        AnnotatedControllerConfigurer configurer = new AnnotatedControllerConfigurer();
+        configurer.setApplicationContext(context);
+        configurer.afterPropertiesSet();
+
+        GraphQlSource graphQlSource = GraphQlSource.schemaResourceBuilder()
+                .schemaResources(new ClassPathResource("graphql/schema.graphqls"))
+                .configureRuntimeWiring(configurer)
+                .build();
+        graphQlService = new DefaultExecutionGraphQlService(graphQlSource);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ExecutionGraphQlResponse incidents() {
+        ExecutionGraphQlResponse response = graphQlService.execute(new DefaultExecutionGraphQlRequest(
+                QUERY, null, null, null, String.valueOf(requestId++), null)).block();
+        if (!response.getErrors().isEmpty()) {
+            throw new IllegalStateException(response.getErrors().toString());
+        }
+        return response;
+    }
+}
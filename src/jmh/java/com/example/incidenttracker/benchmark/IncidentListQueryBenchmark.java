@@ -0,0 +1,106 @@
+package com.example.incidenttracker.benchmark;
+
+import com.example.incidenttracker.IncidentTrackerApplication;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.repository.IncidentSpecifications;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a 10k-row incident list from H2 as REST response DTOs: loading
+ * entities and copying them with {@link IncidentResponse#fromEntity}, versus
+ * the constructor projection in {@link IncidentRepository#findResponses}.
+ * The entity path is measured in a read-only transaction, as the service runs
+ * it, and in a read-write one, where Hibernate also keeps a dirty-checking
+ * snapshot per row. Run with {@code -prof gc} to compare allocation per list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncidentListQueryBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private ConfigurableApplicationContext context;
+    private IncidentRepository incidentRepository;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(IncidentTrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.generate_statistics=false",
+                            "logging.level.com.example.incidenttracker=WARN")
+                .run();
+        incidentRepository = context.getBean(IncidentRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Incident> incidents = BenchmarkData.incidents(ROWS);
+        incidents.forEach(incident -> incident.setId(null));
+        readWrite.executeWithoutResult(status -> incidentRepository.saveAll(incidents));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<IncidentResponse> entitiesReadOnly() {
+        return readOnly.execute(status -> loadEntities());
+    }
+
+    @Benchmark
+    public List<IncidentResponse> entitiesReadWrite() {
+        return readWrite.execute(status -> loadEntities());
+    }
+
+    @Benchmark
+    public List<IncidentResponse> projection() {
+        return readOnly.execute(status ->
+                incidentRepository.findResponses(matchAll(), SORT, ROWS));
+    }
+
+    private List<IncidentResponse> loadEntities() {
+        return incidentRepository.findBy(matchAll(), query -> query.sortBy(SORT).limit(ROWS).all())
+                .stream()
+                .map(IncidentResponse::fromEntity)
+                .toList();
+    }
+
+    private static Specification<Incident> matchAll() {
+        return IncidentSpecifications.matching(null);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.incidenttracker.benchmark;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Incident;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping entities to REST response DTOs with {@link IncidentResponse#fromEntity}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncidentMappingBenchmark {
+
+    private List<Incident> incidents;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        incidents = BenchmarkData.incidents(1024);
+    }
+
+    @Benchmark
+    public IncidentResponse fromEntity() {
+        // Cycle through distinct entities so the JIT cannot fold a constant input
+        Incident incident = incidents.get(next++ & 1023);
+        return IncidentResponse.fromEntity(incident);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void fromEntityList(Blackhole blackhole) {
+        for (Incident incident : incidents) {
+            blackhole.consume(IncidentResponse.fromEntity(incident));
+        }
+    }
+}
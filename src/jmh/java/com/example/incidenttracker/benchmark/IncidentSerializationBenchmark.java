@@ -0,0 +1,56 @@
+package com.example.incidenttracker.benchmark;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link IncidentResponse} lists, as returned by GET /api/incidents.
+ * Uses an ObjectMapper built the way Spring Boot builds its default one, and writes to a
+ * discarding stream so only encoding is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncidentSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<IncidentResponse> responses;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        responses = BenchmarkData.incidents(size).stream().map(IncidentResponse::fromEntity).toList();
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+    }
+
+    @Benchmark
+    public void serializeList() throws Exception {
+        writer.writeValue(OutputStream.nullOutputStream(), responses);
+    }
+
+    @Benchmark
+    public byte[] serializeListToBytes() throws Exception {
+        return writer.writeValueAsBytes(responses);
+    }
+}
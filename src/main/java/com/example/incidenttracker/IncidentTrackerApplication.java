@@ -3,6 +3,7 @@ package com.example.incidenttracker;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Incident Tracker Spring Boot application.
@@ -14,9 +15,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * - Comprehensive logging
  * - Exception handling
  * - Input validation
+ * - Scheduled background maintenance (counter reconciliation)
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class IncidentTrackerApplication {
 
     public static void main(String[] args) {
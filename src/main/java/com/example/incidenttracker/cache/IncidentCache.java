@@ -0,0 +1,236 @@
+package com.example.incidenttracker.cache;
+
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.util.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded in-process cache in front of incident lookups.
+ *
+ * Holds single incidents by id and query results (lists and keyset pages of
+ * entities or response DTOs) by filter key. Both caches are bounded by size
+ * and expire entries after a TTL; query results are weighed by the number of
+ * incidents they hold, so one huge list cannot crowd out everything else.
+ * Hit/miss statistics are published to Micrometer as cache.* metrics.
+ *
+ * Writes invalidate the affected id and only those query results whose status
+ * and priority criteria could match the incident before or after the change.
+ * Inside a transaction, invalidation is deferred until commit. A reader that
+ * loaded before the commit could still put the old state back afterwards, so
+ * every invalidation first bumps a generation counter (per id stripe, and per
+ * status and priority for queries): readers take the generation before loading,
+ * and a put whose generation has moved on by the time it lands is undone.
+ */
+@Component
+@Slf4j
+public class IncidentCache {
+
+    private static final int ID_STRIPES = 1024;
+
+    private final Cache<Long, Incident> incidentsById;
+    private final Cache<QueryKey, CursorPage<?>> queryResults;
+
+    /**
+     * Invalidation counts per id stripe, per status and priority pair, and for {@link #clear()}.
+     * Ids sharing a stripe only cost each other a skipped put.
+     */
+    private final AtomicLongArray idGenerations = new AtomicLongArray(ID_STRIPES);
+    private final AtomicLongArray stateGenerations =
+            new AtomicLongArray(Status.values().length * Priority.values().length);
+    private final AtomicLong clearGeneration = new AtomicLong();
+
+    public IncidentCache(
+            @Value("${incident-tracker.cache.by-id.maximum-size:10000}") long maximumIncidents,
+            @Value("${incident-tracker.cache.queries.maximum-weight:200000}") long maximumQueryWeight,
+            @Value("${incident-tracker.cache.ttl:30s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+
+        this.incidentsById = Caffeine.newBuilder()
+                .maximumSize(maximumIncidents)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.queryResults = Caffeine.newBuilder()
+                .maximumWeight(maximumQueryWeight)
+                .<QueryKey, CursorPage<?>>weigher((key, page) -> Math.max(1, page.getItems().size()))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, incidentsById, "incidentsById");
+        CaffeineCacheMetrics.monitor(meterRegistry, queryResults, "incidentQueries");
+    }
+
+    /**
+     * @return the cached incident, or null on a miss
+     */
+    public Incident getIncident(Long id) {
+        return incidentsById.getIfPresent(id);
+    }
+
+    /**
+     * Taken before loading an incident, to pass to {@link #putIncident}.
+     */
+    public long incidentGeneration(Long id) {
+        return clearGeneration.get() + idGenerations.get(stripe(id));
+    }
+
+    /**
+     * Cache an incident unless it was invalidated since {@code generation} was taken.
+     */
+    public void putIncident(Incident incident, long generation) {
+        Long id = incident.getId();
+        if (incidentGeneration(id) != generation) {
+            return;
+        }
+        incidentsById.put(id, incident);
+        // an invalidation between the check and the put would miss this entry
+        if (incidentGeneration(id) != generation) {
+            incidentsById.asMap().remove(id, incident);
+        }
+    }
+
+    /**
+     * The item type of a cached result is fixed by the query name in its key,
+     * so callers read back the type they stored under that name.
+     *
+     * @return the cached query result, or null on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CursorPage<T> getQuery(QueryKey key) {
+        return (CursorPage<T>) queryResults.getIfPresent(key);
+    }
+
+    /**
+     * Taken before running a query, to pass to {@link #putQuery}.
+     */
+    public long queryGeneration(QueryKey key) {
+        long generation = clearGeneration.get();
+        for (Status status : Status.values()) {
+            for (Priority priority : Priority.values()) {
+                if (key.covers(status, priority)) {
+                    generation += stateGenerations.get(cell(status, priority));
+                }
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Cache a query result unless a write it could contain was invalidated since {@code generation} was taken.
+     */
+    public void putQuery(QueryKey key, CursorPage<?> result, long generation) {
+        if (queryGeneration(key) != generation) {
+            return;
+        }
+        queryResults.put(key, result);
+        if (queryGeneration(key) != generation) {
+            queryResults.asMap().remove(key, result);
+        }
+    }
+
+    /**
+     * Invalidate everything a write to one incident may have made stale.
+     *
+     * @param id the incident id
+     * @param before state before the write, or null for a create
+     * @param after state after the write, or null for a delete
+     */
+    public void invalidate(Long id, IncidentState before, IncidentState after) {
+        AfterCommit.run(() -> {
+            bump(before);
+            bump(after);
+            if (id != null) {
+                idGenerations.incrementAndGet(stripe(id));
+                incidentsById.invalidate(id);
+            }
+            queryResults.asMap().keySet().removeIf(key -> key.couldMatch(before) || key.couldMatch(after));
+            log.debug("Invalidated cache for incident {} ({} -> {})", id, before, after);
+        });
+    }
+
+    /**
+     * Invalidate the query results a batch of writes may have made stale,
+     * scanning the cached queries once rather than once per incident.
+     *
+     * @param ids the incident ids
+     * @param states the states written by the batch
+     */
+    public void invalidateAll(Collection<Long> ids, Collection<IncidentState> states) {
+        AfterCommit.run(() -> {
+            states.forEach(this::bump);
+            ids.forEach(id -> idGenerations.incrementAndGet(stripe(id)));
+            incidentsById.invalidateAll(ids);
+            queryResults.asMap().keySet().removeIf(key -> states.stream().anyMatch(key::couldMatch));
+            log.debug("Invalidated cache for {} incidents", ids.size());
+        });
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void clear() {
+        clearGeneration.incrementAndGet();
+        incidentsById.invalidateAll();
+        queryResults.invalidateAll();
+    }
+
+    private void bump(IncidentState state) {
+        if (state != null) {
+            stateGenerations.incrementAndGet(cell(state.status(), state.priority()));
+        }
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (ID_STRIPES - 1);
+    }
+
+    private static int cell(Status status, Priority priority) {
+        return status.ordinal() * Priority.values().length + priority.ordinal();
+    }
+
+    /**
+     * Identity of a cached query result.
+     *
+     * @param query name of the service method that produced the result
+     * @param filter the filter criteria
+     * @param cursor the page cursor, or null for unpaged lists
+     * @param limit the page size, or 0 for unpaged lists
+     */
+    public record QueryKey(String query, IncidentFilter filter, String cursor, int limit) {
+
+        public static QueryKey list(String query, IncidentFilter filter) {
+            return new QueryKey(query, filter, null, 0);
+        }
+
+        /**
+         * Whether an incident in the given state could be part of this result.
+         * Only status and priority are checked; other criteria are treated as matching.
+         */
+        boolean couldMatch(IncidentState state) {
+            return state != null && covers(state.status(), state.priority());
+        }
+
+        boolean covers(Status status, Priority priority) {
+            return (filter.getStatus() == null || filter.getStatus() == status)
+                    && (filter.getPriority() == null || filter.getPriority() == priority);
+        }
+    }
+}
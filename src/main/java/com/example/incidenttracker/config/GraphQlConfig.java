@@ -0,0 +1,19 @@
+package com.example.incidenttracker.config;
+
+import com.example.incidenttracker.graphql.PersistedQueryDocumentProvider;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * GraphQL engine configuration beyond what Spring Boot sets up.
+ * Instrumentation beans are picked up by Boot on its own.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(PersistedQueryDocumentProvider documentProvider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+    }
+}
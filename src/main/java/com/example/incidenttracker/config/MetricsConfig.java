@@ -0,0 +1,20 @@
+package com.example.incidenttracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics beyond what Spring Boot instruments on its own.
+ * Service methods are timed through {@code @Timed}; histogram, percentile and
+ * SLO settings for every timer live in application.yml.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static RepositoryResultSizeMetrics repositoryResultSizeMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryResultSizeMetrics(meterRegistry::getObject);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.incidenttracker.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Records how many rows each repository query returned, as the
+ * incident.repository.results distribution summary tagged with the repository
+ * and method. Timing is already covered by Spring Boot's
+ * spring.data.repository.invocations timer; this adds the size dimension, so a
+ * slow query can be told apart from a query that returned too much.
+ *
+ * Collections, maps, slices and windows are measured; single results and
+ * streams are not, since their size is not known when the method returns.
+ */
+class RepositoryResultSizeMetrics implements BeanPostProcessor {
+
+    static final String METRIC_NAME = "incident.repository.results";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    RepositoryResultSizeMetrics(Supplier<MeterRegistry> meterRegistry) {
+        // Post-processors are created early; resolve the registry on first use
+        this.meterRegistry = SingletonSupplier.of(meterRegistry);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(new ResultSizeInterceptor(
+                                    repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private class ResultSizeInterceptor implements MethodInterceptor {
+
+        private final String repository;
+
+        // Registered once per method, so an invocation only does a map lookup
+        private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+        ResultSizeInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            int size = sizeOf(result);
+            if (size >= 0) {
+                summaries.computeIfAbsent(invocation.getMethod(), this::register).record(size);
+            }
+            return result;
+        }
+
+        private DistributionSummary register(Method method) {
+            return DistributionSummary.builder(METRIC_NAME)
+                    .description("Rows returned by a repository query")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("method", method.getName())
+                    .register(meterRegistry.get());
+        }
+    }
+
+    private static int sizeOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Window<?> window) {
+            return window.size();
+        }
+        return -1;
+    }
+}
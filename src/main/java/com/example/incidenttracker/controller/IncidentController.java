@@ -1,11 +1,27 @@
 package com.example.incidenttracker.controller;
 
+import com.example.incidenttracker.dto.BulkCreateResponse;
+import com.example.incidenttracker.dto.BulkCreateResult;
+import com.example.incidenttracker.dto.BulkStatusUpdateRequest;
+import com.example.incidenttracker.dto.BulkStatusUpdateResponse;
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.ImportResult;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.dto.IncidentFingerprint;
 import com.example.incidenttracker.dto.IncidentRequest;
 import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
+import com.example.incidenttracker.dto.StatusTransitionRequest;
+import com.example.incidenttracker.exception.ValidationException;
+import com.example.incidenttracker.importer.IncidentImportService;
 import com.example.incidenttracker.model.Incident;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
 import com.example.incidenttracker.service.IncidentService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,12 +32,23 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * REST API controller for incident management.
@@ -30,19 +57,43 @@ import java.util.stream.Collectors;
  */
 @RestController
 @RequestMapping("/api/incidents")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Incident Management", description = "APIs for managing incidents")
 public class IncidentController {
 
+    /**
+     * Response header carrying the opaque cursor of the next page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Response header carrying the total number of matching incidents.
+     */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    /**
+     * Media type of a JSON Merge Patch document (RFC 7396).
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final IncidentService incidentService;
+    private final ObjectMapper objectMapper;
+    private final IncidentImportService importService;
 
     @GetMapping
     @Operation(summary = "Get all incidents",
-               description = "Retrieve all incidents with optional filters by status or priority")
+               description = "Retrieve incidents filtered by any combination of status, priority, assignee " +
+                           "and created/resolved time ranges, evaluated in a single database query. " +
+                           "Results are paginated by cursor: pass the X-Next-Cursor header of one page " +
+                           "as the cursor parameter to fetch the next one. With includeTotal=true or If-None-Match, one " +
+                           "aggregate query fingerprints the count and latest updatedAt of all matching incidents " +
+                           "into the ETag; other requests read only the page and carry no ETag.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved list of incidents"),
-        @ApiResponse(responseCode = "400", description = "Invalid filter parameter")
+        @ApiResponse(responseCode = "304", description = "No matching incident changed since the If-None-Match version"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter parameter, cursor or limit")
     })
     public ResponseEntity<List<IncidentResponse>> getAllIncidents(
             @RequestParam(required = false)
@@ -51,47 +102,239 @@ public class IncidentController {
 
             @RequestParam(required = false)
             @Parameter(description = "Filter by incident priority")
-            Priority priority) {
+            Priority priority,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by assignee")
+            String assignee,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents created at or after this time (ISO-8601)")
+            LocalDateTime createdFrom,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents created before this time (ISO-8601)")
+            LocalDateTime createdTo,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents resolved at or after this time (ISO-8601)")
+            LocalDateTime resolvedFrom,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents resolved before this time (ISO-8601)")
+            LocalDateTime resolvedTo,
+
+            @RequestParam(defaultValue = "DESC")
+            @Parameter(description = "Sort direction on createdAt: DESC (newest first) or ASC")
+            Sort.Direction direction,
 
-        log.debug("GET /api/incidents - status={}, priority={}", status, priority);
+            @RequestParam(required = false)
+            @Parameter(description = "Opaque cursor from the X-Next-Cursor header of the previous page")
+            String cursor,
+
+            @RequestParam(defaultValue = "" + IncidentService.DEFAULT_PAGE_SIZE)
+            @Parameter(description = "Page size (capped at " + IncidentService.MAX_PAGE_SIZE + ")")
+            int limit,
+
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Include the total number of matching incidents in the X-Total-Count header")
+            boolean includeTotal,
+
+            WebRequest webRequest) {
+
+        IncidentFilter filter = IncidentFilter.builder()
+                .status(status)
+                .priority(priority)
+                .assignee(assignee)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .resolvedFrom(resolvedFrom)
+                .resolvedTo(resolvedTo)
+                .direction(direction)
+                .build();
+
+        log.debug("GET /api/incidents - filter={}, cursor={}, limit={}", filter, cursor, limit);
+
+        // The aggregate scans every matching row, so a plain keyset page does not pay for it.
+        // Read before the page, so a concurrent write can only make the ETag older than the body
+        IncidentFingerprint fingerprint = null;
+        if (includeTotal || webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            fingerprint = incidentService.getIncidentsFingerprint(filter);
+            // Only the ETag is checked: deleting an incident does not move its Last-Modified
+            if (webRequest.checkNotModified(fingerprint.eTag())) {
+                return null;
+            }
+        }
 
-        List<Incident> incidents;
+        CursorPage<IncidentResponse> page = incidentService.getIncidentResponsePage(filter, cursor, limit);
 
-        if (status != null && priority != null) {
-            incidents = incidentService.getAllIncidents().stream()
-                    .filter(i -> i.getStatus() == status && i.getPriority() == priority)
-                    .collect(Collectors.toList());
-        } else if (status != null) {
-            incidents = incidentService.getIncidentsByStatus(status);
-        } else if (priority != null) {
-            incidents = incidentService.getIncidentsByPriority(priority);
+        HttpHeaders headers = new HttpHeaders();
+        if (fingerprint != null) {
+            headers.setETag(fingerprint.eTag());
+            if (fingerprint.lastModified() != null) {
+                headers.setLastModified(fingerprint.lastModifiedMillis());
+            }
+        }
+        if (page.hasNext()) {
+            headers.set(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        if (includeTotal) {
+            headers.set(TOTAL_COUNT_HEADER, String.valueOf(fingerprint.count()));
+        }
+
+        log.debug("Returning {} incidents", page.getItems().size());
+        return ResponseEntity.ok().headers(headers).body(page.getItems());
+    }
+
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Export incidents",
+               description = "Stream all incidents matching the optional filters in id order. " +
+                           "Rows are read from a database cursor and written as they arrive, " +
+                           "either as newline-delimited JSON (default) or as a chunked JSON array.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream started"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter parameter or format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportIncidents(
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by incident status")
+            Status status,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by incident priority")
+            Priority priority,
+
+            @RequestParam(defaultValue = "ndjson")
+            @Parameter(description = "Output format: ndjson or json")
+            String format) {
+
+        log.debug("GET /api/incidents/export - status={}, priority={}, format={}", status, priority, format);
+
+        boolean jsonArray;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            jsonArray = false;
+        } else if ("json".equalsIgnoreCase(format)) {
+            jsonArray = true;
         } else {
-            incidents = incidentService.getAllIncidents();
+            throw new ValidationException("Unsupported export format: " + format);
         }
 
-        List<IncidentResponse> responses = incidents.stream()
-                .map(IncidentResponse::fromEntity)
-                .collect(Collectors.toList());
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                if (jsonArray) {
+                    generator.writeStartArray();
+                }
+                incidentService.exportIncidents(status, priority, incident -> {
+                    try {
+                        generator.writeObject(incident);
+                        if (!jsonArray) {
+                            generator.writeRaw('\n');
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                if (jsonArray) {
+                    generator.writeEndArray();
+                }
+            }
+        };
 
-        log.debug("Returning {} incidents", responses.size());
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .contentType(jsonArray ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get incident statistics",
+               description = "Incident counts per status, priority and assignee, with roll-ups per dimension. " +
+                           "Served from live in-memory counters that are periodically reconciled with the database.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved statistics")
+    })
+    public ResponseEntity<IncidentStatsResponse> getIncidentStats() {
+        log.debug("GET /api/incidents/stats");
+        return ResponseEntity.ok(incidentService.getIncidentStats());
+    }
+
+    @GetMapping("/overdue")
+    @Operation(summary = "Get overdue incidents",
+               description = "Open and in-progress incidents created more than the given number of days ago, " +
+                           "oldest first. Served from an in-memory set kept up to date by a background scan.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved overdue incidents"),
+        @ApiResponse(responseCode = "400", description = "Negative number of days")
+    })
+    public ResponseEntity<List<IncidentResponse>> getOverdueIncidents(
+            @RequestParam(defaultValue = "7")
+            @Parameter(description = "Minimum age in days")
+            int days,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Only incidents of this priority")
+            Priority priority) {
+
+        log.debug("GET /api/incidents/overdue - days={}, priority={}", days, priority);
+        return ResponseEntity.ok(incidentService.getOverdueIncidents(days, priority));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search incidents",
+               description = "Full-text search over titles and descriptions. Incidents must contain every term; " +
+                           "the most relevant come first. Highlights are HTML-escaped, with matched terms wrapped in <mark> tags.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully searched incidents"),
+        @ApiResponse(responseCode = "400", description = "Blank query or invalid limit")
+    })
+    public ResponseEntity<List<IncidentSearchHit>> searchIncidents(
+            @RequestParam
+            @Parameter(description = "Search terms, e.g. timeout 503")
+            String q,
+
+            @RequestParam(defaultValue = "20")
+            @Parameter(description = "Maximum number of hits (at most " + IncidentService.MAX_PAGE_SIZE + ")")
+            int limit) {
+
+        log.debug("GET /api/incidents/search - q={}, limit={}", q, limit);
+        return ResponseEntity.ok(incidentService.searchIncidents(q, limit));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get incident by ID",
-               description = "Retrieve a specific incident by its unique identifier")
+               description = "Retrieve a specific incident by its unique identifier. " +
+                           "The response carries an ETag and Last-Modified derived from updatedAt; " +
+                           "conditional requests are checked without loading the incident.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved incident"),
+        @ApiResponse(responseCode = "304", description = "Incident unchanged since the If-None-Match/If-Modified-Since version"),
         @ApiResponse(responseCode = "404", description = "Incident not found")
     })
     public ResponseEntity<IncidentResponse> getIncidentById(
             @PathVariable
             @Parameter(description = "Incident ID")
-            Long id) {
+            Long id,
+
+            WebRequest webRequest) {
 
         log.debug("GET /api/incidents/{}", id);
+        if (isConditional(webRequest)) {
+            IncidentFingerprint current = incidentService.getIncidentFingerprint(id);
+            if (webRequest.checkNotModified(current.eTag(), current.lastModifiedMillis())) {
+                return null;
+            }
+        }
+
         Incident incident = incidentService.getIncidentById(id);
-        return ResponseEntity.ok(IncidentResponse.fromEntity(incident));
+        IncidentFingerprint fingerprint = IncidentFingerprint.of(incident);
+        return ResponseEntity.ok()
+                .eTag(fingerprint.eTag())
+                .lastModified(fingerprint.lastModifiedMillis())
+                .body(IncidentResponse.fromEntity(incident));
     }
 
     @PostMapping
@@ -111,13 +354,71 @@ public class IncidentController {
                 .body(IncidentResponse.fromEntity(incident));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create incidents in bulk",
+               description = "Create up to " + IncidentService.MAX_BULK_SIZE + " incidents in one transaction. " +
+                           "Each item is validated on its own; invalid items are reported and skipped.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All incidents successfully created"),
+        @ApiResponse(responseCode = "207", description = "Some incidents created, others rejected"),
+        @ApiResponse(responseCode = "400", description = "No incidents created")
+    })
+    public ResponseEntity<BulkCreateResponse> createIncidents(
+            @RequestBody
+            List<IncidentRequest> requests) {
+
+        log.debug("POST /api/incidents/bulk - {} items", requests.size());
+        BulkCreateResult result = incidentService.createIncidents(requests);
+        HttpStatus status = result.getFailed() == 0 ? HttpStatus.CREATED
+                : result.getCreated() == 0 ? HttpStatus.BAD_REQUEST
+                : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(BulkCreateResponse.fromResult(result));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import incidents from CSV",
+               description = "Stream a CSV file with a header row (title, description, priority, status, assignee) " +
+                           "into the database. Invalid rows are skipped and written to a quarantine file.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; counts and rejected rows are reported"),
+        @ApiResponse(responseCode = "400", description = "Empty or malformed file, or no title column")
+    })
+    public ResponseEntity<ImportResult> importIncidents(
+            @RequestParam("file")
+            @Parameter(description = "CSV file, UTF-8 encoded")
+            MultipartFile file) throws IOException {
+
+        log.debug("POST /api/incidents/import - file={}, size={}", file.getOriginalFilename(), file.getSize());
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importCsv(input, file.getOriginalFilename()));
+        }
+    }
+
+    @PostMapping("/bulk/status")
+    @Operation(summary = "Update status of many incidents",
+               description = "Move incidents selected by id list or by filter to one status in a single UPDATE. " +
+                           "When set to RESOLVED, resolvedAt is recorded where it is not already set.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statuses updated; skipped ids are reported"),
+        @ApiResponse(responseCode = "400", description = "Missing status, or not exactly one of ids and filter")
+    })
+    public ResponseEntity<BulkStatusUpdateResponse> updateStatuses(
+            @Valid @RequestBody
+            BulkStatusUpdateRequest request) {
+
+        log.debug("POST /api/incidents/bulk/status - status={}", request.getStatus());
+        return ResponseEntity.ok(incidentService.updateStatuses(request));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update incident",
-               description = "Update all fields of an existing incident")
+               description = "Update all fields of an existing incident. " +
+                           "With If-Match set to the incident's ETag, the update only applies to that version.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Incident successfully updated"),
-        @ApiResponse(responseCode = "400", description = "Invalid request body"),
-        @ApiResponse(responseCode = "404", description = "Incident not found")
+        @ApiResponse(responseCode = "400", description = "Invalid request body or If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Incident not found"),
+        @ApiResponse(responseCode = "409", description = "Incident was modified since the If-Match version, or concurrently")
     })
     public ResponseEntity<IncidentResponse> updateIncident(
             @PathVariable
@@ -125,11 +426,54 @@ public class IncidentController {
             Long id,
 
             @Valid @RequestBody
-            IncidentRequest request) {
+            IncidentRequest request,
+
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag of the version the update is based on, or *")
+            String ifMatch) {
 
         log.debug("PUT /api/incidents/{}", id);
-        Incident incident = incidentService.updateIncident(id, request);
-        return ResponseEntity.ok(IncidentResponse.fromEntity(incident));
+        Incident incident = incidentService.updateIncident(id, request, expectedVersion(ifMatch));
+        return versioned(incident);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update incident",
+               description = "Apply a JSON Merge Patch (RFC 7396): fields present in the body replace the " +
+                           "current values, null clears them, absent fields are kept. " +
+                           "Only the columns that change are written. If-Match works as for PUT.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Incident successfully updated"),
+        @ApiResponse(responseCode = "400", description = "Body is not a JSON object, the patched incident is invalid, " +
+                                                         "or the If-Match header is malformed"),
+        @ApiResponse(responseCode = "404", description = "Incident not found"),
+        @ApiResponse(responseCode = "409", description = "Incident was modified since the If-Match version, or concurrently")
+    })
+    public ResponseEntity<IncidentResponse> patchIncident(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id,
+
+            @RequestBody
+            @Parameter(description = "Merge patch with any of title, description, priority, status and assignee")
+            JsonNode patch,
+
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag of the version the patch is based on, or *")
+            String ifMatch) {
+
+        log.debug("PATCH /api/incidents/{} - fields={}", id, patch.size());
+        if (!patch.isObject()) {
+            throw new ValidationException("Merge patch must be a JSON object");
+        }
+        Incident incident = incidentService.patchIncident(id, current -> {
+            try {
+                return objectMapper.readerForUpdating(current).readValue(patch);
+            } catch (IOException e) {
+                throw new ValidationException("Invalid merge patch: " + e.getMessage(), e);
+            }
+        }, expectedVersion(ifMatch));
+        return versioned(incident);
     }
 
     @PatchMapping("/{id}/status")
@@ -151,7 +495,31 @@ public class IncidentController {
 
         log.debug("PATCH /api/incidents/{}/status - status={}", id, status);
         Incident incident = incidentService.updateStatus(id, status);
-        return ResponseEntity.ok(IncidentResponse.fromEntity(incident));
+        return versioned(incident);
+    }
+
+    @PostMapping("/{id}/transition")
+    @Operation(summary = "Transition incident status",
+               description = "Move an incident from expectedStatus to newStatus with one conditional UPDATE. " +
+                           "If the incident no longer has expectedStatus nothing is written, " +
+                           "so concurrent automations cannot overwrite each other's transitions.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status successfully transitioned"),
+        @ApiResponse(responseCode = "400", description = "Missing expected or new status"),
+        @ApiResponse(responseCode = "404", description = "Incident not found"),
+        @ApiResponse(responseCode = "409", description = "Incident does not have the expected status")
+    })
+    public ResponseEntity<IncidentResponse> transitionStatus(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id,
+
+            @Valid @RequestBody
+            StatusTransitionRequest request) {
+
+        log.debug("POST /api/incidents/{}/transition - {} -> {}", id, request.getExpectedStatus(), request.getNewStatus());
+        Incident incident = incidentService.transitionStatus(id, request.getExpectedStatus(), request.getNewStatus());
+        return versioned(incident);
     }
 
     @DeleteMapping("/{id}")
@@ -170,4 +538,38 @@ public class IncidentController {
         incidentService.deleteIncident(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * The version an If-Match header asks for; null when it is absent or "*",
+     * which only requires the incident to exist. Shared with the reactive controller.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.strip())) {
+            return null;
+        }
+        Long version = IncidentFingerprint.versionOf(ifMatch);
+        if (version == null) {
+            throw new ValidationException("If-Match must be * or a single incident ETag");
+        }
+        return version;
+    }
+
+    /**
+     * 200 response for a written incident, carrying its new ETag for the next If-Match.
+     */
+    private static ResponseEntity<IncidentResponse> versioned(Incident incident) {
+        IncidentFingerprint fingerprint = IncidentFingerprint.of(incident);
+        return ResponseEntity.ok()
+                .eTag(fingerprint.eTag())
+                .lastModified(fingerprint.lastModifiedMillis())
+                .body(IncidentResponse.fromEntity(incident));
+    }
+
+    /**
+     * Whether the client sent a validator, so checking it before loading the incident can pay off.
+     */
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.incidenttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResponse {
+    private int created;
+    private int failed;
+    private List<ItemResult> results;
+
+    public record ItemResult(int index, boolean success, IncidentResponse incident, List<String> errors) {}
+
+    /**
+     * Factory method to convert a service-level bulk result to a response DTO.
+     *
+     * @param result the bulk create result
+     * @return the response DTO
+     */
+    public static BulkCreateResponse fromResult(BulkCreateResult result) {
+        return BulkCreateResponse.builder()
+                .created(result.getCreated())
+                .failed(result.getFailed())
+                .results(result.getResults().stream()
+                        .map(item -> new ItemResult(
+                                item.index(),
+                                item.success(),
+                                item.success() ? IncidentResponse.fromEntity(item.incident()) : null,
+                                item.errors()))
+                        .toList())
+                .build();
+    }
+}
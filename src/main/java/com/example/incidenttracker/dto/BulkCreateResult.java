@@ -0,0 +1,31 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.model.Incident;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk create, with one result per submitted item in input order.
+ */
+@Data
+@AllArgsConstructor
+public class BulkCreateResult {
+    private int created;
+    private int failed;
+    private List<ItemResult> results;
+
+    /**
+     * Result of one submitted item: the created incident, or the validation errors that rejected it.
+     *
+     * @param index position of the item in the request
+     * @param incident the created incident, or null if the item was rejected
+     * @param errors validation errors, empty if the item was created
+     */
+    public record ItemResult(int index, Incident incident, List<String> errors) {
+        public boolean success() {
+            return incident != null;
+        }
+    }
+}
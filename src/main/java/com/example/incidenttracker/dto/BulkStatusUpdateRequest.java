@@ -0,0 +1,28 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.model.Status;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Moves many incidents to one status. Exactly one of {@code ids} or
+ * {@code filter} selects the incidents.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "Status is required")
+    private Status status;
+
+    private List<Long> ids;
+
+    private IncidentFilter filter;
+}
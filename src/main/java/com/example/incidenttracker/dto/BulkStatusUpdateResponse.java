@@ -0,0 +1,21 @@
+package com.example.incidenttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status transition.
+ * Skipped ids were requested but do not exist or already had the target status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private int affected;
+    private List<Long> skippedIds;
+}
@@ -0,0 +1,34 @@
+package com.example.incidenttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result.
+ * The next cursor is null when there are no more results.
+ *
+ * @param <T> the item type
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Convert the items of this page while keeping the cursor.
+     *
+     * @param mapper the item conversion
+     * @return a page with the converted items
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
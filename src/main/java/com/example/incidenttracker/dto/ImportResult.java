@@ -0,0 +1,39 @@
+package com.example.incidenttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+    private long read;
+    private long imported;
+    private long rejected;
+    private long durationMillis;
+
+    /**
+     * Imported rows per second; quarantined rows are not counted.
+     */
+    private long rowsPerSecond;
+
+    /**
+     * File holding the rejected rows with their errors, or null if none were rejected.
+     */
+    private String quarantineFile;
+
+    /**
+     * The first rejected rows; the quarantine file has all of them.
+     */
+    private List<RowError> errors;
+
+    public record RowError(long line, String message) {}
+}
@@ -0,0 +1,14 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+
+/**
+ * Projection of one GROUP BY status, priority, assignee row.
+ */
+public interface IncidentCount {
+    Status getStatus();
+    Priority getPriority();
+    String getAssignee();
+    long getTotal();
+}
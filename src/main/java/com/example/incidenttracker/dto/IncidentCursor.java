@@ -0,0 +1,72 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.exception.ValidationException;
+import com.example.incidenttracker.model.Incident;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Position of an incident in the (createdAt, id) keyset ordering.
+ * Clients only ever see the opaque token produced by {@link #encode()}.
+ *
+ * @param createdAt creation timestamp of the last incident on the page
+ * @param id id of the last incident on the page (tie-breaker)
+ */
+public record IncidentCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static IncidentCursor of(Incident incident) {
+        return new IncidentCursor(incident.getCreatedAt(), incident.getId());
+    }
+
+    public static IncidentCursor of(IncidentResponse incident) {
+        return new IncidentCursor(incident.getCreatedAt(), incident.getId());
+    }
+
+    /**
+     * Encode this position as an opaque, URL-safe token.
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token the cursor token
+     * @return the decoded position
+     * @throws ValidationException if the token is malformed
+     */
+    public static IncidentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("Invalid cursor: " + token);
+            }
+            return new IncidentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("Invalid cursor: " + token, ex);
+        }
+    }
+
+    /**
+     * Keyset values in sort-property order, as expected by Spring Data scrolling.
+     */
+    public Map<String, Object> toKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", createdAt);
+        keys.put("id", id);
+        return keys;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+/**
+ * Combination of optional criteria used to query incidents.
+ * Every non-null field narrows the result; all of them are translated
+ * into a single SQL WHERE clause. Lower bounds are inclusive and upper
+ * bounds are exclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentFilter {
+    private Status status;
+    private Priority priority;
+    private String assignee;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime resolvedFrom;
+    private LocalDateTime resolvedTo;
+
+    /**
+     * Direction of the (createdAt, id) ordering; newest first by default.
+     */
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    /**
+     * A filter that matches every incident, newest first.
+     */
+    public static IncidentFilter none() {
+        return IncidentFilter.builder().build();
+    }
+
+    /**
+     * @return whether any criterion narrows the result
+     */
+    public boolean hasCriteria() {
+        return status != null || priority != null || assignee != null
+                || createdFrom != null || createdTo != null
+                || resolvedFrom != null || resolvedTo != null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.model.Incident;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Version of one incident or of the incidents matching a filter: how many there
+ * are and when the most recent of them was modified. Creating, updating or
+ * deleting a matching incident through the application changes it, so it serves
+ * as the HTTP validator of the corresponding representation.
+ *
+ * A single incident also has its optimistic-locking version, which then makes
+ * up the entity tag, so clients can send it back in If-Match.
+ *
+ * @param count the number of incidents
+ * @param lastModified the latest updatedAt among them, or null when there are none
+ * @param version the version of a single incident, or null for a list
+ */
+public record IncidentFingerprint(long count, LocalDateTime lastModified, Long version) {
+
+    private static final Pattern VERSION_TAG = Pattern.compile("\"v(\\d{1,18})\"");
+
+    public IncidentFingerprint(long count, LocalDateTime lastModified) {
+        this(count, lastModified, null);
+    }
+
+    public static IncidentFingerprint of(Incident incident) {
+        return new IncidentFingerprint(1, incident.getUpdatedAt(), incident.getVersion());
+    }
+
+    /**
+     * Strong entity tag, quoted as sent in the ETag header.
+     */
+    public String eTag() {
+        if (version != null) {
+            return "\"v" + version + "\"";
+        }
+        long micros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        return "\"" + count + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    /**
+     * @return lastModified in epoch milliseconds in the server time zone, or -1 when there are no incidents
+     */
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Read the version back from the entity tag of a single incident.
+     *
+     * @param eTag a quoted entity tag
+     * @return the version, or null if the tag is not one of a single incident
+     */
+    public static Long versionOf(String eTag) {
+        Matcher matcher = VERSION_TAG.matcher(eTag.strip());
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
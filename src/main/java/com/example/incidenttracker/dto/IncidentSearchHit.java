@@ -0,0 +1,22 @@
+package com.example.incidenttracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One full-text search result: the matching incident, its relevance and
+ * HTML-escaped copies of the title and description with matched terms wrapped
+ * in {@code <mark>} tags. Ranks are only comparable within one result list.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentSearchHit {
+    private IncidentResponse incident;
+    private double rank;
+    private String titleHighlight;
+    private String descriptionHighlight;
+}
@@ -0,0 +1,36 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Incident counts per status, priority and assignee, with roll-ups per dimension.
+ * A null assignee stands for unassigned incidents.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncidentStatsResponse {
+    private long total;
+    private List<StatusCount> byStatus;
+    private List<PriorityCount> byPriority;
+    private List<AssigneeCount> byAssignee;
+    private List<Cell> breakdown;
+    private LocalDateTime reconciledAt;
+
+    public record StatusCount(Status status, long count) {}
+
+    public record PriorityCount(Priority priority, long count) {}
+
+    public record AssigneeCount(String assignee, long count) {}
+
+    public record Cell(Status status, Priority priority, String assignee, long count) {}
+}
@@ -0,0 +1,25 @@
+package com.example.incidenttracker.dto;
+
+import com.example.incidenttracker.model.Status;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Moves an incident to {@code newStatus}, but only while it still has
+ * {@code expectedStatus}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionRequest {
+
+    @NotNull(message = "Expected status is required")
+    private Status expectedStatus;
+
+    @NotNull(message = "New status is required")
+    private Status newStatus;
+}
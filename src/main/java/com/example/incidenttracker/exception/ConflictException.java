@@ -0,0 +1,16 @@
+package com.example.incidenttracker.exception;
+
+/**
+ * Exception thrown when a write was based on a state of a resource that is
+ * no longer current, such as a stale version or an unexpected status.
+ * This should result in a 409 HTTP status code.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.incidenttracker.graphql;
+
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.service.IncidentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Registers the DataLoader that resolves incidents by ID.
+ *
+ * Every incident lookup made while executing one GraphQL request (aliased
+ * {@code incident(id:)} fields, or any resolver that declares a
+ * {@code DataLoader<Long, Incident>} argument) is collected and resolved with
+ * a single {@link IncidentService#getIncidentsByIds} call instead of one
+ * SELECT per ID. Loaders are created per request, so nothing is shared
+ * between requests beyond what {@link IncidentService} itself caches.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class IncidentBatchLoader {
+
+    public IncidentBatchLoader(BatchLoaderRegistry registry, IncidentService incidentService) {
+        registry.forTypePair(Long.class, Incident.class)
+                .registerMappedBatchLoader((ids, environment) -> {
+                    log.debug("Batch loading {} incidents", ids.size());
+                    return Mono.fromSupplier(() -> incidentService.getIncidentsByIds(ids));
+                });
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.incidenttracker.graphql;
+
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.IncidentCursor;
+import com.example.incidenttracker.model.Incident;
+
+import java.util.List;
+
+/**
+ * Relay-style connection over a page of incidents.
+ * Mirrors the IncidentConnection, IncidentEdge and PageInfo types in schema.graphqls.
+ */
+public record IncidentConnection(List<Edge> edges, PageInfo pageInfo) {
+
+    /**
+     * Build a connection from a keyset page.
+     *
+     * @param page the page returned by the service
+     * @param after the cursor the page was requested with, or null for the first page
+     * @return the connection
+     */
+    public static IncidentConnection from(CursorPage<Incident> page, String after) {
+        List<Edge> edges = page.getItems().stream()
+                .map(incident -> new Edge(incident, IncidentCursor.of(incident).encode()))
+                .toList();
+
+        PageInfo pageInfo = new PageInfo(
+                page.hasNext(),
+                after != null && !after.isBlank(),
+                edges.isEmpty() ? null : edges.get(0).cursor(),
+                edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor());
+
+        return new IncidentConnection(edges, pageInfo);
+    }
+
+    public record Edge(Incident node, String cursor) {}
+
+    public record PageInfo(
+            boolean hasNextPage,
+            boolean hasPreviousPage,
+            String startCursor,
+            String endCursor
+    ) {}
+}
@@ -1,18 +1,37 @@
 package com.example.incidenttracker.graphql;
 
+import com.example.incidenttracker.dto.BulkCreateResult;
+import com.example.incidenttracker.dto.BulkStatusUpdateRequest;
+import com.example.incidenttracker.dto.BulkStatusUpdateResponse;
+import com.example.incidenttracker.dto.IncidentFilter;
 import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
+import com.example.incidenttracker.exception.ResourceNotFoundException;
+import com.example.incidenttracker.exception.ValidationException;
 import com.example.incidenttracker.model.Incident;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
 import com.example.incidenttracker.service.IncidentService;
-import lombok.RequiredArgsConstructor;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
 import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * GraphQL controller for incident queries and mutations.
@@ -22,42 +41,142 @@ import java.util.List;
  * All resolvers are method-level using @QueryMapping and @MutationMapping.
  */
 @Controller
-@RequiredArgsConstructor
+@Profile("!reactive")
 @Slf4j
 public class IncidentGraphQLController {
 
     private final IncidentService incidentService;
 
+    /**
+     * Most incidents returned by a list field without a "first" argument.
+     */
+    private final int maxListSize;
+
+    public IncidentGraphQLController(
+            IncidentService incidentService,
+            @Value("${incident-tracker.graphql.max-list-size:1000}") int maxListSize) {
+        this.incidentService = incidentService;
+        this.maxListSize = maxListSize;
+    }
+
     // ============ QUERIES ============
 
     @QueryMapping
-    public List<Incident> incidents() {
-        log.debug("GraphQL query: incidents()");
-        return incidentService.getAllIncidents();
+    public List<Incident> incidents(@Argument IncidentFilterInput filter, DataFetchingFieldSelectionSet selection) {
+        log.debug("GraphQL query: incidents(filter={})", filter);
+        return incidentService.getIncidents(filter != null ? filter.toFilter() : IncidentFilter.none(),
+                                            requestedAttributes(selection), maxListSize);
     }
 
+    /**
+     * Resolved through the incident DataLoader, so all incident(id:) fields of
+     * a request are fetched together (see {@link IncidentBatchLoader}).
+     */
     @QueryMapping
-    public Incident incident(@Argument Long id) {
+    public CompletableFuture<Incident> incident(@Argument Long id, DataLoader<Long, Incident> incidentLoader) {
         log.debug("GraphQL query: incident(id={})", id);
-        return incidentService.getIncidentById(id);
+        return incidentLoader.load(id).thenApply(incident -> {
+            if (incident == null) {
+                throw new ResourceNotFoundException("Incident not found with id: " + id);
+            }
+            return incident;
+        });
     }
 
     @QueryMapping
-    public List<Incident> incidentsByStatus(@Argument Status status) {
+    public List<Incident> incidentsByStatus(@Argument Status status, DataFetchingFieldSelectionSet selection) {
         log.debug("GraphQL query: incidentsByStatus(status={})", status);
-        return incidentService.getIncidentsByStatus(status);
+        return incidentService.getIncidents(IncidentFilter.builder().status(status).build(),
+                                            requestedAttributes(selection), maxListSize);
     }
 
     @QueryMapping
-    public List<Incident> incidentsByPriority(@Argument Priority priority) {
+    public List<Incident> incidentsByPriority(@Argument Priority priority, DataFetchingFieldSelectionSet selection) {
         log.debug("GraphQL query: incidentsByPriority(priority={})", priority);
-        return incidentService.getIncidentsByPriority(priority);
+        return incidentService.getIncidents(IncidentFilter.builder().priority(priority).build(),
+                                            requestedAttributes(selection), maxListSize);
     }
 
     @QueryMapping
-    public List<Incident> incidentsByAssignee(@Argument String assignee) {
+    public List<Incident> incidentsByAssignee(@Argument String assignee, DataFetchingFieldSelectionSet selection) {
         log.debug("GraphQL query: incidentsByAssignee(assignee={})", assignee);
-        return incidentService.getIncidentsByAssignee(assignee);
+        return incidentService.getIncidents(IncidentFilter.builder().assignee(assignee).build(),
+                                            requestedAttributes(selection), maxListSize);
+    }
+
+    @QueryMapping
+    public IncidentConnection incidentsConnection(@Argument IncidentFilterInput filter,
+                                                  @Argument Integer first,
+                                                  @Argument String after) {
+        log.debug("GraphQL query: incidentsConnection(filter={}, first={}, after={})", filter, first, after);
+        return connection(filter != null ? filter.toFilter() : IncidentFilter.none(), first, after);
+    }
+
+    @QueryMapping
+    public IncidentConnection incidentsByStatusConnection(@Argument Status status,
+                                                          @Argument Integer first,
+                                                          @Argument String after) {
+        log.debug("GraphQL query: incidentsByStatusConnection(status={}, first={}, after={})",
+                  status, first, after);
+        return connection(IncidentFilter.builder().status(status).build(), first, after);
+    }
+
+    @QueryMapping
+    public IncidentConnection incidentsByPriorityConnection(@Argument Priority priority,
+                                                            @Argument Integer first,
+                                                            @Argument String after) {
+        log.debug("GraphQL query: incidentsByPriorityConnection(priority={}, first={}, after={})",
+                  priority, first, after);
+        return connection(IncidentFilter.builder().priority(priority).build(), first, after);
+    }
+
+    @QueryMapping
+    public IncidentConnection incidentsByAssigneeConnection(@Argument String assignee,
+                                                            @Argument Integer first,
+                                                            @Argument String after) {
+        log.debug("GraphQL query: incidentsByAssigneeConnection(assignee={}, first={}, after={})",
+                  assignee, first, after);
+        return connection(IncidentFilter.builder().assignee(assignee).build(), first, after);
+    }
+
+    @QueryMapping
+    public IncidentStatsResponse incidentStats() {
+        log.debug("GraphQL query: incidentStats()");
+        return incidentService.getIncidentStats();
+    }
+
+    @QueryMapping
+    public List<IncidentResponse> overdueIncidents(@Argument int days, @Argument Priority priority) {
+        log.debug("GraphQL query: overdueIncidents(days={}, priority={})", days, priority);
+        List<IncidentResponse> overdue = incidentService.getOverdueIncidents(days, priority);
+        return overdue.size() > maxListSize ? overdue.subList(0, maxListSize) : overdue;
+    }
+
+    @QueryMapping
+    public List<IncidentSearchHit> searchIncidents(@Argument String query, @Argument int first) {
+        log.debug("GraphQL query: searchIncidents(query={}, first={})", query, first);
+        return incidentService.searchIncidents(query, first);
+    }
+
+    /**
+     * Incident fields requested by the client, so list queries only read those columns.
+     * Every Incident field in the schema maps to the entity attribute of the same name.
+     *
+     * @param selection the selection set of a list field, or null when called outside GraphQL
+     * @return the requested field names, or null to read every column
+     */
+    private static Set<String> requestedAttributes(DataFetchingFieldSelectionSet selection) {
+        if (selection == null) {
+            return null;
+        }
+        return selection.getImmediateFields().stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private IncidentConnection connection(IncidentFilter filter, Integer first, String after) {
+        int limit = first != null ? first : IncidentService.DEFAULT_PAGE_SIZE;
+        return IncidentConnection.from(incidentService.getIncidentPage(filter, after, limit), after);
     }
 
     // ============ MUTATIONS ============
@@ -66,14 +185,13 @@ public class IncidentGraphQLController {
     public Incident createIncident(@Argument CreateIncidentInput input) {
         log.info("GraphQL mutation: createIncident(title={})", input.title());
 
-        IncidentRequest request = IncidentRequest.builder()
-                .title(input.title())
-                .description(input.description())
-                .priority(input.priority() != null ? input.priority() : Priority.LOW)
-                .assignee(input.assignee())
-                .build();
+        return incidentService.createIncident(input.toRequest());
+    }
 
-        return incidentService.createIncident(request);
+    @MutationMapping
+    public BulkCreateResult createIncidents(@Argument List<CreateIncidentInput> inputs) {
+        log.info("GraphQL mutation: createIncidents({} items)", inputs.size());
+        return incidentService.createIncidents(inputs.stream().map(CreateIncidentInput::toRequest).toList());
     }
 
     @MutationMapping
@@ -97,6 +215,24 @@ public class IncidentGraphQLController {
         return incidentService.updateStatus(id, status);
     }
 
+    @MutationMapping
+    public Incident transitionStatus(@Argument Long id, @Argument Status expectedStatus, @Argument Status newStatus) {
+        log.info("GraphQL mutation: transitionStatus(id={}, {} -> {})", id, expectedStatus, newStatus);
+        return incidentService.transitionStatus(id, expectedStatus, newStatus);
+    }
+
+    @MutationMapping
+    public BulkStatusUpdateResponse updateStatuses(@Argument List<Long> ids,
+                                                   @Argument IncidentFilterInput filter,
+                                                   @Argument Status status) {
+        log.info("GraphQL mutation: updateStatuses(ids={}, filter={}, status={})", ids, filter, status);
+        return incidentService.updateStatuses(BulkStatusUpdateRequest.builder()
+                .status(status)
+                .ids(ids)
+                .filter(filter != null ? filter.toFilter() : null)
+                .build());
+    }
+
     @MutationMapping
     public Boolean deleteIncident(@Argument Long id) {
         log.info("GraphQL mutation: deleteIncident(id={})", id);
@@ -115,7 +251,16 @@ public class IncidentGraphQLController {
             String description,
             Priority priority,
             String assignee
-    ) {}
+    ) {
+        public IncidentRequest toRequest() {
+            return IncidentRequest.builder()
+                    .title(title)
+                    .description(description)
+                    .priority(priority != null ? priority : Priority.LOW)
+                    .assignee(assignee)
+                    .build();
+        }
+    }
 
     /**
      * GraphQL input type for updating incidents.
@@ -128,4 +273,43 @@ public class IncidentGraphQLController {
             Status status,
             String assignee
     ) {}
+
+    /**
+     * GraphQL input type for filtering incidents.
+     * Timestamps are ISO-8601 strings, matching how Incident timestamps are rendered.
+     */
+    public record IncidentFilterInput(
+            Status status,
+            Priority priority,
+            String assignee,
+            String createdFrom,
+            String createdTo,
+            String resolvedFrom,
+            String resolvedTo,
+            Sort.Direction direction
+    ) {
+        public IncidentFilter toFilter() {
+            return IncidentFilter.builder()
+                    .status(status)
+                    .priority(priority)
+                    .assignee(assignee)
+                    .createdFrom(parseTimestamp("createdFrom", createdFrom))
+                    .createdTo(parseTimestamp("createdTo", createdTo))
+                    .resolvedFrom(parseTimestamp("resolvedFrom", resolvedFrom))
+                    .resolvedTo(parseTimestamp("resolvedTo", resolvedTo))
+                    .direction(direction != null ? direction : Sort.Direction.DESC)
+                    .build();
+        }
+
+        private static LocalDateTime parseTimestamp(String field, String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ex) {
+                throw new ValidationException("Invalid " + field + " timestamp: " + value, ex);
+            }
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package com.example.incidenttracker.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed and validated GraphQL documents, with support for
+ * automatic persisted queries (APQ).
+ *
+ * Requests carrying an {@code extensions.persistedQuery.sha256Hash} follow the
+ * Apollo protocol: a hash that is not cached yet answers PersistedQueryNotFound,
+ * the client resends the hash with the full query, and the document is cached
+ * under its hash once the hash has been verified. Other requests are cached by
+ * their query text. Either way a repeated document skips parsing and validation.
+ *
+ * Both kinds of entries share one Caffeine cache, bounded by entry count and
+ * published to Micrometer as cache.* metrics under "graphqlDocuments".
+ */
+@Component
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+
+    private final Cache<DocumentKey, PreparsedDocumentEntry> documents;
+    private final ApolloPersistedQuerySupport persistedQueries;
+
+    public PersistedQueryDocumentProvider(
+            @Value("${incident-tracker.graphql.document-cache.maximum-size:1000}") long maximumDocuments,
+            MeterRegistry meterRegistry) {
+
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumDocuments)
+                .recordStats()
+                .build();
+        this.persistedQueries = new ApolloPersistedQuerySupport(new HashKeyedCache());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, "graphqlDocuments");
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        if (executionInput.getExtensions().containsKey(PERSISTED_QUERY_EXTENSION)) {
+            return persistedQueries.getDocumentAsync(executionInput, parseAndValidate);
+        }
+        return CompletableFuture.completedFuture(documents.get(new DocumentKey(false, executionInput.getQuery()),
+                                                               key -> parseAndValidate.apply(executionInput)));
+    }
+
+    /**
+     * Still abstract in graphql-java, so it has to exist; it delegates to {@link #getDocumentAsync}.
+     */
+    @Override
+    @Deprecated
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        return getDocumentAsync(executionInput, parseAndValidate).join();
+    }
+
+    /**
+     * Persisted query storage: entries keyed by the verified hash. A miss either
+     * parses the query sent along with the hash, or fails with PersistedQueryNotFound.
+     */
+    private class HashKeyedCache implements PersistedQueryCache {
+
+        @Override
+        public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+                Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+            return CompletableFuture.completedFuture(
+                    documents.get(new DocumentKey(true, persistedQueryId.toString()), key -> {
+                        String query = executionInput.getQuery();
+                        if (query == null || query.isBlank()
+                                || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+                            throw new PersistedQueryNotFound(persistedQueryId);
+                        }
+                        return onCacheMiss.apply(query);
+                    }));
+        }
+
+        // Abstract but deprecated in graphql-java; PersistedQuerySupport still calls it
+        @Override
+        @Deprecated
+        public PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId,
+                                                                ExecutionInput executionInput,
+                                                                PersistedQueryCacheMiss onCacheMiss) {
+            return getPersistedQueryDocumentAsync(persistedQueryId, executionInput, onCacheMiss).join();
+        }
+    }
+
+    /**
+     * Cache key: a persisted query hash or a query text, never confused with each other.
+     */
+    private record DocumentKey(boolean hash, String value) {}
+}
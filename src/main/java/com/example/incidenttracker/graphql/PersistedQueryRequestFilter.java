@@ -0,0 +1,163 @@
+package com.example.incidenttracker.graphql;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lets hash-only persisted query requests through the GraphQL HTTP endpoint.
+ *
+ * Spring GraphQL rejects a request body without a "query", but an automatic
+ * persisted query may send only {@code extensions.persistedQuery}. For such
+ * bodies the graphql-java persisted query marker is filled in as the query, and
+ * {@link PersistedQueryDocumentProvider} resolves the document by its hash.
+ * Bodies with a query are passed on unchanged; finding the top-level "query"
+ * only tokenizes the body, it does not build a tree.
+ */
+@Component
+@Profile("!reactive")
+public class PersistedQueryRequestFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final String graphQlPath;
+
+    public PersistedQueryRequestFilter(ObjectMapper objectMapper,
+                                       @Value("${spring.graphql.path:/graphql}") String graphQlPath) {
+        this.objectMapper = objectMapper;
+        this.graphQlPath = graphQlPath;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !graphQlPath.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        byte[] body = request.getInputStream().readAllBytes();
+        if (!hasQuery(body)) {
+            body = withPersistedQueryMarker(body);
+        }
+        chain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private boolean hasQuery(byte[] body) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return true;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("query".equals(field)) {
+                    return value == JsonToken.VALUE_STRING && !parser.getText().isBlank();
+                }
+                parser.skipChildren();
+            }
+            return false;
+        } catch (IOException ex) {
+            // Malformed JSON is reported by the GraphQL handler
+            return true;
+        }
+    }
+
+    private byte[] withPersistedQueryMarker(byte[] body) throws IOException {
+        JsonNode root = objectMapper.readTree(body);
+        if (!(root instanceof ObjectNode request) || !root.path("extensions").has("persistedQuery")) {
+            return body;
+        }
+        request.put("query", PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    /**
+     * Request whose body has already been read, served again from memory.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is in memory, so it is available at once and then fully read
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
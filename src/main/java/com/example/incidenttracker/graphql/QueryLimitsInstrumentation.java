@@ -0,0 +1,273 @@
+package com.example.incidenttracker.graphql;
+
+import com.example.incidenttracker.service.IncidentService;
+import graphql.ExecutionResult;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.DataFetcherResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.normalized.ExecutableNormalizedField;
+import graphql.normalized.ExecutableNormalizedOperation;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Static cost and depth limits, and an execution deadline, for GraphQL operations.
+ *
+ * Before any resolver runs, the normalized operation is walked once to compute
+ * its depth and estimated cost. Every field costs its weight (1 unless listed
+ * in {@link #FIELD_WEIGHTS}; root fields default to {@value #ROOT_FIELD_WEIGHT}
+ * because each one is a database round trip), and the selections below a list
+ * are multiplied by the expected number of elements: the {@code first} argument
+ * of the enclosing paginated field (defaulting to and capped at the service page
+ * sizes), or the configured maximum list size for unpaginated lists, which the
+ * resolvers enforce on root list fields. Operations over either limit are rejected; the cost is reported in the {@code cost} response
+ * extension and in the graphql.query.cost metric.
+ *
+ * The deadline is checked before every non-trivial data fetcher and bounds
+ * asynchronous (DataLoader, reactive) results, so a slow operation stops issuing
+ * queries once its time is up. Introspection fields are not limited.
+ */
+@Component
+@Slf4j
+public class QueryLimitsInstrumentation extends SimplePerformantInstrumentation {
+
+    /**
+     * Weight of Query and Mutation fields without an entry in {@link #FIELD_WEIGHTS}.
+     */
+    static final int ROOT_FIELD_WEIGHT = 10;
+
+    /**
+     * Per-field weights, keyed by "Type.field".
+     */
+    static final Map<String, Integer> FIELD_WEIGHTS = Map.of(
+            // Served from in-memory counters
+            "Query.incidentStats", 1);
+
+    private static final String COST_EXTENSION = "cost";
+    private static final String PAGE_SIZE_ARGUMENT = "first";
+
+    private final int maxCost;
+    private final int maxDepth;
+    private final int maxListSize;
+    private final Duration timeout;
+    private final DistributionSummary acceptedCost;
+    private final DistributionSummary rejectedCost;
+    private final Counter timeouts;
+
+    public QueryLimitsInstrumentation(
+            @Value("${incident-tracker.graphql.max-cost:10000}") int maxCost,
+            @Value("${incident-tracker.graphql.max-depth:10}") int maxDepth,
+            @Value("${incident-tracker.graphql.max-list-size:1000}") int maxListSize,
+            @Value("${incident-tracker.graphql.timeout:10s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        this.maxCost = maxCost;
+        this.maxDepth = maxDepth;
+        this.maxListSize = maxListSize;
+        this.timeout = timeout;
+        this.acceptedCost = costSummary(meterRegistry, "accepted");
+        this.rejectedCost = costSummary(meterRegistry, "rejected");
+        this.timeouts = Counter.builder("graphql.query.timeouts")
+                .description("GraphQL operations that hit the execution timeout")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new LimitsState(System.nanoTime() + timeout.toNanos());
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+
+        LimitsState limits = (LimitsState) state;
+        GraphQLSchema schema = parameters.getExecutionContext().getGraphQLSchema();
+        ExecutableNormalizedOperation operation = parameters.getExecutionContext().getNormalizedQueryTree().get();
+
+        long cost = 0;
+        int depth = 0;
+        for (ExecutableNormalizedField field : operation.getTopLevelFields()) {
+            cost += cost(field, schema, null);
+            depth = Math.max(depth, depth(field));
+        }
+        limits.cost = cost;
+
+        if (depth > maxDepth) {
+            rejectedCost.record(cost);
+            log.warn("Rejected GraphQL operation with depth {} (maximum {})", depth, maxDepth);
+            throw new AbortExecutionException("Query depth " + depth + " exceeds the maximum of " + maxDepth);
+        }
+        if (cost > maxCost) {
+            rejectedCost.record(cost);
+            log.warn("Rejected GraphQL operation with cost {} (maximum {})", cost, maxCost);
+            throw new AbortExecutionException("Query cost " + cost + " exceeds the maximum of " + maxCost
+                    + "; request fewer fields or use a paginated connection");
+        }
+        acceptedCost.record(cost);
+        return SimpleInstrumentationContext.noOp();
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                                InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher() || state == null) {
+            return dataFetcher;
+        }
+        LimitsState limits = (LimitsState) state;
+        return environment -> {
+            long remaining = limits.deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return timedOut(environment, limits);
+            }
+            Object result = dataFetcher.get(environment);
+            if (result instanceof CompletionStage<?> stage) {
+                return stage.toCompletableFuture()
+                        .<Object>thenApply(value -> value)
+                        .orTimeout(remaining, TimeUnit.NANOSECONDS)
+                        .exceptionally(ex -> {
+                            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                            if (cause instanceof TimeoutException) {
+                                return timedOut(environment, limits);
+                            }
+                            throw ex instanceof CompletionException completion ? completion : new CompletionException(ex);
+                        });
+            }
+            return result;
+        };
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+                                                                        InstrumentationExecutionParameters parameters,
+                                                                        InstrumentationState state) {
+        LimitsState limits = (LimitsState) state;
+        if (limits == null || limits.cost == null) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        Map<String, Object> cost = new LinkedHashMap<>();
+        cost.put("requested", limits.cost);
+        cost.put("maximum", maxCost);
+        return CompletableFuture.completedFuture(
+                executionResult.transform(builder -> builder.addExtension(COST_EXTENSION, cost)));
+    }
+
+    /**
+     * Cost of a field and everything selected below it.
+     *
+     * @param pageSize elements per list announced by an enclosing paginated field
+     *                 that no list has consumed yet, or null
+     */
+    private long cost(ExecutableNormalizedField field, GraphQLSchema schema, Integer pageSize) {
+        if (field.getName().startsWith("__")) {
+            return 0;
+        }
+        GraphQLFieldDefinition definition = field.getFieldDefinitions(schema).get(0);
+        if (definition.getArgument(PAGE_SIZE_ARGUMENT) != null) {
+            pageSize = pageSize(field.getResolvedArguments().get(PAGE_SIZE_ARGUMENT));
+        }
+
+        long multiplier = 1;
+        if (GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(definition.getType()))) {
+            multiplier = pageSize != null ? pageSize : maxListSize;
+            pageSize = null;
+        }
+
+        long children = 0;
+        for (ExecutableNormalizedField child : field.getChildren()) {
+            children += cost(child, schema, pageSize);
+        }
+        return weight(field) + multiplier * children;
+    }
+
+    private int weight(ExecutableNormalizedField field) {
+        boolean root = field.getLevel() == 1;
+        for (String type : field.getObjectTypeNames()) {
+            Integer weight = FIELD_WEIGHTS.get(type + "." + field.getName());
+            if (weight != null) {
+                return weight;
+            }
+        }
+        return root ? ROOT_FIELD_WEIGHT : 1;
+    }
+
+    private static int depth(ExecutableNormalizedField field) {
+        if (field.getName().startsWith("__")) {
+            return 0;
+        }
+        int depth = 0;
+        for (ExecutableNormalizedField child : field.getChildren()) {
+            depth = Math.max(depth, depth(child));
+        }
+        return depth + 1;
+    }
+
+    private static int pageSize(Object first) {
+        if (first instanceof Number number && number.intValue() > 0) {
+            return Math.min(number.intValue(), IncidentService.MAX_PAGE_SIZE);
+        }
+        return IncidentService.DEFAULT_PAGE_SIZE;
+    }
+
+    private DataFetcherResult<Object> timedOut(DataFetchingEnvironment environment, LimitsState limits) {
+        if (!limits.timedOut) {
+            limits.timedOut = true;
+            timeouts.increment();
+            log.warn("GraphQL operation exceeded the execution timeout of {}", timeout);
+        }
+        return DataFetcherResult.newResult()
+                .error(GraphqlErrorBuilder.newError(environment)
+                        .errorType(ErrorType.INTERNAL_ERROR)
+                        .message("Execution timeout of " + timeout.toMillis() + "ms exceeded")
+                        .build())
+                .build();
+    }
+
+    private static DistributionSummary costSummary(MeterRegistry meterRegistry, String outcome) {
+        return DistributionSummary.builder("graphql.query.cost")
+                .description("Estimated cost of GraphQL operations")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Per-operation state: the deadline, and the cost once computed.
+     */
+    private static final class LimitsState implements InstrumentationState {
+        private final long deadline;
+        private volatile Long cost;
+        private volatile boolean timedOut;
+
+        private LimitsState(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.incidenttracker.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV reader.
+ *
+ * Reads one record at a time, so files of any size are parsed in constant
+ * memory. Supports quoted fields with embedded commas, line breaks and
+ * doubled quotes, CRLF or LF line endings, and a leading UTF-8 byte order mark.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private boolean atStart = true;
+
+    /**
+     * A parsed record.
+     *
+     * @param line the line on which the record starts, counting from 1
+     * @param fields the raw field values, in column order
+     */
+    public record CsvRecord(long line, List<String> fields) {
+
+        /**
+         * @return the value at the given column, or null if the record is shorter
+         */
+        public String get(int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+    }
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, 1 << 16);
+    }
+
+    /**
+     * @return the next record, or null at end of input
+     * @throws IOException if reading fails or a quoted field is not terminated
+     */
+    public CsvRecord next() throws IOException {
+        int c = reader.read();
+        if (atStart) {
+            atStart = false;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        long start = line;
+        List<String> fields = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + start);
+                }
+                if (c == '"') {
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = peek;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return new CsvRecord(start, fields);
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
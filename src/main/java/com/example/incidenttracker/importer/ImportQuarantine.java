@@ -0,0 +1,94 @@
+package com.example.incidenttracker.importer;
+
+import com.example.incidenttracker.dto.ImportResult.RowError;
+import com.example.incidenttracker.importer.CsvRecordReader.CsvRecord;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects rows rejected during an import.
+ *
+ * Every rejected row is written, as it was read plus its line number and
+ * error, to a CSV file that is only created on the first rejection. The first
+ * few errors are also kept in memory for the import summary.
+ */
+class ImportQuarantine implements Closeable {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final Path file;
+    private final List<String> header;
+    private final List<RowError> errors = new ArrayList<>();
+    private BufferedWriter writer;
+    private long rejected;
+
+    ImportQuarantine(Path file, List<String> header) {
+        this.file = file;
+        this.header = header;
+    }
+
+    void reject(CsvRecord record, String message) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(record.line(), message));
+        }
+        try {
+            if (writer == null) {
+                Files.createDirectories(file.getParent());
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                List<String> columns = new ArrayList<>(header);
+                columns.add("line");
+                columns.add("error");
+                writeRow(columns);
+            }
+            List<String> columns = new ArrayList<>(record.fields());
+            columns.add(String.valueOf(record.line()));
+            columns.add(message);
+            writeRow(columns);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write quarantine file " + file, e);
+        }
+    }
+
+    long rejected() {
+        return rejected;
+    }
+
+    List<RowError> errors() {
+        return errors;
+    }
+
+    /**
+     * @return the quarantine file, or null if nothing was rejected
+     */
+    Path file() {
+        return writer != null ? file : null;
+    }
+
+    private void writeRow(List<String> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(columns.get(i).replace("\"", "\"\""));
+            writer.write('"');
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
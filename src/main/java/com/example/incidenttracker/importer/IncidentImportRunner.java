@@ -0,0 +1,58 @@
+package com.example.incidenttracker.importer;
+
+import com.example.incidenttracker.dto.ImportResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point for CSV imports.
+ *
+ * Active only when incident-tracker.import.file is set; imports that file and
+ * shuts the application down. Exits with status 0 on success, 2 if some rows
+ * were rejected. For example:
+ * <pre>
+ * java -jar incident-tracker.jar --spring.main.web-application-type=none \
+ *     --incident-tracker.import.file=data/incidents_import.csv
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty("incident-tracker.import.file")
+@Slf4j
+public class IncidentImportRunner implements ApplicationRunner {
+
+    private final IncidentImportService importService;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+
+    public IncidentImportRunner(
+            IncidentImportService importService,
+            ConfigurableApplicationContext context,
+            @Value("${incident-tracker.import.file}") Path file) {
+        this.importService = importService;
+        this.context = context;
+        this.file = file;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ImportResult result;
+        try (InputStream input = Files.newInputStream(file)) {
+            result = importService.importCsv(input, file.toString());
+        }
+        if (result.getQuarantineFile() != null) {
+            log.warn("{} rows rejected, see {}", result.getRejected(), result.getQuarantineFile());
+        }
+        int exitCode = result.getRejected() > 0 ? 2 : 0;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.incidenttracker.importer;
+
+import com.example.incidenttracker.cache.IncidentCache;
+import com.example.incidenttracker.dto.ImportResult;
+import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.exception.ValidationException;
+import com.example.incidenttracker.importer.CsvRecordReader.CsvRecord;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.search.IncidentSearch;
+import com.example.incidenttracker.stats.IncidentCounters;
+import com.example.incidenttracker.stats.OverdueIncidents;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Imports incidents from CSV files.
+ *
+ * The input is streamed through parse, validate and batch stages: each record
+ * is parsed, checked with the same constraints as the REST API, and collected
+ * into batches that {@link IncidentBulkWriter} writes in their own transaction
+ * (COPY on PostgreSQL). Rows that fail validation go to an
+ * {@link ImportQuarantine} file instead of aborting the import. Progress is
+ * logged after every batch.
+ *
+ * Columns are matched by header name (title, description, priority, status,
+ * assignee); only title is required. Batches already written stay committed
+ * if a later batch fails.
+ */
+@Service
+@Slf4j
+public class IncidentImportService {
+
+    private static final DateTimeFormatter QUARANTINE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final IncidentBulkWriter writer;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final IncidentCache incidentCache;
+    private final IncidentCounters incidentCounters;
+    private final OverdueIncidents overdueIncidents;
+    private final IncidentSearch incidentSearch;
+    private final int batchSize;
+    private final Path quarantineDir;
+
+    public IncidentImportService(
+            IncidentBulkWriter writer,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            IncidentCache incidentCache,
+            IncidentCounters incidentCounters,
+            OverdueIncidents overdueIncidents,
+            IncidentSearch incidentSearch,
+            @Value("${incident-tracker.import.batch-size:10000}") int batchSize,
+            @Value("${incident-tracker.import.quarantine-dir:logs/import-quarantine}") Path quarantineDir) {
+        this.writer = writer;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.incidentCache = incidentCache;
+        this.incidentCounters = incidentCounters;
+        this.overdueIncidents = overdueIncidents;
+        this.incidentSearch = incidentSearch;
+        this.batchSize = batchSize;
+        this.quarantineDir = quarantineDir;
+    }
+
+    /**
+     * Import every row of a CSV file.
+     *
+     * @param input the CSV content, UTF-8 encoded, with a header row
+     * @param source name of the input, used in logs and the quarantine file name
+     * @return counts, throughput and the rejected rows
+     * @throws ValidationException if the input is empty, has no title column or is malformed
+     */
+    public ImportResult importCsv(InputStream input, String source) {
+        long started = System.nanoTime();
+        log.info("Importing incidents from {}", source);
+
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            CsvRecord header = reader.next();
+            if (header == null) {
+                throw new ValidationException("CSV file is empty");
+            }
+            Columns columns = Columns.of(header);
+
+            long read = 0;
+            long imported = 0;
+            List<IncidentRequest> batch = new ArrayList<>(batchSize);
+            try (ImportQuarantine quarantine = new ImportQuarantine(quarantineFile(source), header.fields())) {
+                try {
+                    CsvRecord record;
+                    while ((record = reader.next()) != null) {
+                        if (record.fields().size() == 1 && record.fields().get(0).isBlank()) {
+                            continue;
+                        }
+                        read++;
+                        IncidentRequest row;
+                        try {
+                            row = columns.toRequest(record);
+                        } catch (IllegalArgumentException e) {
+                            quarantine.reject(record, e.getMessage());
+                            continue;
+                        }
+                        String violations = validate(row);
+                        if (violations != null) {
+                            quarantine.reject(record, violations);
+                            continue;
+                        }
+                        batch.add(row);
+                        if (batch.size() >= batchSize) {
+                            imported += flush(batch);
+                            logProgress(source, read, imported, quarantine.rejected(), started);
+                        }
+                    }
+                    imported += flush(batch);
+                } finally {
+                    // Rows were written behind JPA's back, and each batch commits on its own,
+                    // so rebuild the in-memory views even when a later batch failed
+                    if (imported > 0) {
+                        refreshViews();
+                    }
+                }
+
+                long durationMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+                ImportResult result = ImportResult.builder()
+                        .read(read)
+                        .imported(imported)
+                        .rejected(quarantine.rejected())
+                        .durationMillis(durationMillis)
+                        .rowsPerSecond(imported * 1000 / durationMillis)
+                        .quarantineFile(quarantine.file() != null ? quarantine.file().toString() : null)
+                        .errors(List.copyOf(quarantine.errors()))
+                        .build();
+                log.info("Imported {} of {} incidents from {} in {} ms ({} rows imported/s), rejected {}",
+                        imported, read, source, durationMillis, result.getRowsPerSecond(), result.getRejected());
+                return result;
+            }
+        } catch (IOException e) {
+            throw new ValidationException("Could not read CSV from " + source + ": " + e.getMessage());
+        }
+    }
+
+    private void refreshViews() {
+        incidentCache.clear();
+        incidentCounters.reconcile();
+        // Imported rows are stamped with the current time, so an incremental scan finds them
+        overdueIncidents.scan();
+        incidentSearch.rebuild();
+    }
+
+    private long flush(List<IncidentRequest> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Long written = transactionTemplate.execute(status -> writer.write(batch, now));
+        batch.clear();
+        return written != null ? written : 0;
+    }
+
+    /**
+     * @return the constraint violations of the row joined into one message, or null if it is valid
+     */
+    private String validate(IncidentRequest row) {
+        String violations = validator.validate(row).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return violations.isEmpty() ? null : violations;
+    }
+
+    /**
+     * Positions of the known columns in the file, -1 where a column is absent.
+     */
+    private record Columns(int title, int description, int priority, int status, int assignee) {
+
+        static Columns of(CsvRecord header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.fields().size(); i++) {
+                positions.putIfAbsent(header.fields().get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!positions.containsKey("title")) {
+                throw new ValidationException("CSV header must contain a title column");
+            }
+            return new Columns(
+                    positions.get("title"),
+                    positions.getOrDefault("description", -1),
+                    positions.getOrDefault("priority", -1),
+                    positions.getOrDefault("status", -1),
+                    positions.getOrDefault("assignee", -1));
+        }
+
+        /**
+         * @throws IllegalArgumentException if priority or status is not a known value
+         */
+        IncidentRequest toRequest(CsvRecord record) {
+            String priorityValue = value(record, priority);
+            String statusValue = value(record, status);
+            return IncidentRequest.builder()
+                    .title(value(record, title))
+                    .description(value(record, description))
+                    .priority(priorityValue == null ? Priority.LOW : parse(Priority.class, "priority", priorityValue))
+                    .status(statusValue == null ? Status.OPEN : parse(Status.class, "status", statusValue))
+                    .assignee(value(record, assignee))
+                    .build();
+        }
+
+        private static String value(CsvRecord record, int index) {
+            String value = record.get(index);
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static <E extends Enum<E>> E parse(Class<E> type, String column, String value) {
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid " + column + ": " + value);
+            }
+        }
+    }
+
+    private Path quarantineFile(String source) {
+        String name = Path.of(source == null || source.isBlank() ? "upload.csv" : source).getFileName().toString();
+        return quarantineDir.resolve(name + "." + LocalDateTime.now().format(QUARANTINE_SUFFIX) + ".rejected.csv");
+    }
+
+    private void logProgress(String source, long read, long imported, long rejected, long started) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Import of {}: {} rows read, {} imported, {} rejected ({} rows imported/s)",
+                source, read, imported, rejected, imported * 1000 / elapsedMillis);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.incidenttracker.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one in every {@code rate} events of a logger hierarchy and drops the rest,
+ * before the message is formatted or queued. Meant for request logs that are
+ * useful as a sample but too frequent to write in full.
+ *
+ * Only events at or below {@code level} (INFO by default) are sampled; warnings
+ * and errors always pass. {@code isXxxEnabled()} checks are not sampled, so
+ * guarded log statements are counted once. Configured in logback-spring.xml:
+ *
+ * <pre>{@code
+ * <turboFilter class="com.example.incidenttracker.logging.SamplingTurboFilter">
+ *     <loggerPrefix>com.example.incidenttracker.controller</loggerPrefix>
+ *     <rate>100</rate>
+ * </turboFilter>
+ * }</pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private String loggerPrefix;
+    private Level level = Level.INFO;
+    private int rate = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params, Throwable t) {
+        if (format == null || rate <= 1 || eventLevel.levelInt > level.levelInt
+                || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (loggerPrefix == null || loggerPrefix.isBlank()) {
+            addError("No loggerPrefix set for turbo filter " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.incidenttracker.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Turns on SQL logging, through {@link SqlLoggingTurboFilter}, for requests whose
+ * {@code incident-tracker.logging.sql-header} header (X-Debug-SQL by default) is
+ * {@code true}. Removing the property disables the header.
+ * The flag lives in the MDC of the request thread, so statements run on other
+ * threads, such as streaming exports, are not logged.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty("incident-tracker.logging.sql-header")
+public class SqlLoggingRequestFilter extends OncePerRequestFilter {
+
+    private final String headerName;
+
+    public SqlLoggingRequestFilter(@Value("${incident-tracker.logging.sql-header}") String headerName) {
+        this.headerName = headerName;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        if (!Boolean.parseBoolean(request.getHeader(headerName))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try (MDC.MDCCloseable ignored = MDC.putCloseable(SqlLoggingTurboFilter.MDC_KEY, "true")) {
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.incidenttracker.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Enables Hibernate SQL logging for the current thread only, whatever level the
+ * SQL loggers are configured at. {@link SqlLoggingRequestFilter} sets the
+ * {@link #MDC_KEY} entry for requests that ask for it, so statements of a single
+ * request can be traced in production without turning SQL logging on for all traffic.
+ *
+ * Hibernate reads the level of the bind-parameter logger once at startup, so
+ * only statements are logged this way; parameter values are not.
+ */
+public class SqlLoggingTurboFilter extends TurboFilter {
+
+    /**
+     * MDC entry that switches SQL logging on while it is present.
+     */
+    public static final String MDC_KEY = "sqlLogging";
+
+    private static final String SQL_LOGGER = "org.hibernate.SQL";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level.levelInt >= Level.DEBUG_INT && SQL_LOGGER.equals(logger.getName()) && MDC.get(MDC_KEY) != null) {
+            return FilterReply.ACCEPT;
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
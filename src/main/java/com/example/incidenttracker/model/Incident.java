@@ -3,21 +3,32 @@ package com.example.incidenttracker.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+/**
+ * UPDATE statements only set the columns that changed, so a status or assignee
+ * edit does not send the title and description back to the database.
+ */
 @Entity
 @Table(name = "incidents")
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Incident {
 
+    /**
+     * Ids come from a pooled sequence (see V3 migration) rather than an identity
+     * column, so Hibernate can allocate ids up front and batch inserts.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "incidents_seq")
+    @SequenceGenerator(name = "incidents_seq", sequenceName = "incidents_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -45,17 +56,40 @@ public class Incident {
     @Column(length = 100)
     private String assignee;
 
-    @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
     @Column
     private LocalDateTime resolvedAt;
 
+    /**
+     * Optimistic lock (see V6 migration). Hibernate increments it on every update and
+     * adds it to the WHERE clause, so a write based on a stale read fails instead of
+     * silently overwriting; the single-statement writes in the repository bump it too.
+     * The column default covers rows the bulk importer inserts without it.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Set timestamps when the entity is persisted rather than when the insert runs,
+     * so they are visible straight away even though batched inserts are deferred to flush.
+     * Truncated to the column precision so keyset cursors built from the entity match the stored value.
+     */
+    @PrePersist
+    public void prePersist() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+        this.updatedAt = now;
+    }
+
     /**
      * Auto-set resolvedAt when status changes to RESOLVED.
      * This lifecycle hook ensures the timestamp is set automatically
@@ -63,6 +97,7 @@ public class Incident {
      */
     @PreUpdate
     public void preUpdate() {
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         if (this.status == Status.RESOLVED && this.resolvedAt == null) {
             this.resolvedAt = LocalDateTime.now();
         }
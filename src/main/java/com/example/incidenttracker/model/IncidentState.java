@@ -0,0 +1,12 @@
+package com.example.incidenttracker.model;
+
+/**
+ * The attributes of an incident that in-memory views (caches, counters)
+ * are keyed on, captured before or after a write.
+ */
+public record IncidentState(Status status, Priority priority, String assignee) {
+
+    public static IncidentState of(Incident incident) {
+        return new IncidentState(incident.getStatus(), incident.getPriority(), incident.getAssignee());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.dto.ErrorResponse;
+import com.example.incidenttracker.exception.ConflictException;
+import com.example.incidenttracker.exception.GlobalExceptionHandler;
+import com.example.incidenttracker.exception.ResourceNotFoundException;
+import com.example.incidenttracker.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler}, producing the same
+ * error response format for the reactive profile.
+ */
+@RestControllerAdvice
+@Profile("reactive")
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handle ResourceNotFoundException (404 Not Found).
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFound(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+
+        log.error("Resource not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request, null);
+    }
+
+    /**
+     * Handle writes based on a state that is no longer current (409 Conflict).
+     */
+    @ExceptionHandler({ConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflict(
+            RuntimeException ex, ServerHttpRequest request) {
+
+        log.warn("Conflicting write: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, "Conflict",
+                ex instanceof ConflictException ? ex.getMessage()
+                        : "Incident was modified concurrently; reload it and retry",
+                request, null);
+    }
+
+    /**
+     * Handle request body validation errors (400 Bad Request).
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(
+            WebExchangeBindException ex, ServerHttpRequest request) {
+
+        List<String> errors = ex.getBindingResult().getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .toList();
+
+        log.error("Validation failed: {}", errors);
+        return error(HttpStatus.BAD_REQUEST, "Validation Failed", "Invalid input data", request, errors);
+    }
+
+    /**
+     * Handle custom validation exceptions (400 Bad Request).
+     */
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(
+            ValidationException ex, ServerHttpRequest request) {
+
+        log.error("Validation error: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Validation Error", ex.getMessage(), request, null);
+    }
+
+    /**
+     * Handle parameters and bodies that cannot be converted, such as an unknown enum value (400 Bad Request).
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInputError(
+            ServerWebInputException ex, ServerHttpRequest request) {
+
+        log.error("Invalid request input: {}", ex.getReason());
+        return error(HttpStatus.BAD_REQUEST, "Validation Error", ex.getReason(), request, null);
+    }
+
+    /**
+     * Handle all other exceptions (500 Internal Server Error).
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex, ServerHttpRequest request) {
+
+        log.error("Unexpected error occurred", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                     "An unexpected error occurred", request, null);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                       ServerHttpRequest request, List<String> validationErrors) {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(request.getPath().value())
+                .validationErrors(validationErrors)
+                .build();
+
+        return ResponseEntity.status(status).body(body);
+    }
+}
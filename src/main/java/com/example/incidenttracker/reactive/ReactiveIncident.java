@@ -0,0 +1,83 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the incidents table, used by the reactive profile.
+ * Mirrors {@link com.example.incidenttracker.model.Incident}; lifecycle rules
+ * (timestamps, resolvedAt) are applied by {@link ReactiveIncidentService}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("incidents")
+public class ReactiveIncident {
+
+    @Id
+    private Long id;
+
+    private String title;
+    private String description;
+    private Priority priority;
+    private Status status;
+    private String assignee;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime resolvedAt;
+
+    /**
+     * Same optimistic lock as the JPA entity; R2DBC checks and increments it on update.
+     */
+    @Version
+    private Long version;
+
+    public IncidentState state() {
+        return new IncidentState(status, priority, assignee);
+    }
+
+    public IncidentResponse toResponse() {
+        return IncidentResponse.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .priority(priority)
+                .status(status)
+                .assignee(assignee)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .resolvedAt(resolvedAt)
+                .build();
+    }
+
+    /**
+     * Detached JPA view of this row, for code shared with the servlet stack.
+     */
+    public Incident toEntity() {
+        return Incident.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .priority(priority)
+                .status(status)
+                .assignee(assignee)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .resolvedAt(resolvedAt)
+                .version(version)
+                .build();
+    }
+}
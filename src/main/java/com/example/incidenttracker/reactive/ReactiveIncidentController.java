@@ -0,0 +1,455 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.controller.IncidentController;
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.dto.IncidentFingerprint;
+import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
+import com.example.incidenttracker.dto.StatusTransitionRequest;
+import com.example.incidenttracker.exception.ValidationException;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.service.IncidentService;
+import com.example.incidenttracker.stats.IncidentCounters;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Non-blocking REST API for incident management, active with the reactive profile.
+ * Serves the same paths, parameters and response shapes as {@link IncidentController};
+ * bulk operations and CSV import are only available on the servlet stack.
+ */
+@RestController
+@RequestMapping("/api/incidents")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Incident Management", description = "APIs for managing incidents")
+public class ReactiveIncidentController {
+
+    private final ReactiveIncidentService incidentService;
+    private final IncidentCounters incidentCounters;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    @Operation(summary = "Get all incidents",
+               description = "Retrieve incidents filtered by any combination of status, priority, assignee " +
+                           "and created/resolved time ranges. Results are paginated by cursor: pass the " +
+                           "X-Next-Cursor header of one page as the cursor parameter to fetch the next one. " +
+                           "With includeTotal=true or If-None-Match, one aggregate query fingerprints the count " +
+                           "and latest updatedAt of all matching incidents into the ETag; other requests read " +
+                           "only the page and carry no ETag.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of incidents"),
+        @ApiResponse(responseCode = "304", description = "No matching incident changed since the If-None-Match version"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter parameter, cursor or limit")
+    })
+    public Mono<ResponseEntity<List<IncidentResponse>>> getAllIncidents(
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by incident status")
+            Status status,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by incident priority")
+            Priority priority,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by assignee")
+            String assignee,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents created at or after this time (ISO-8601)")
+            LocalDateTime createdFrom,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents created before this time (ISO-8601)")
+            LocalDateTime createdTo,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents resolved at or after this time (ISO-8601)")
+            LocalDateTime resolvedFrom,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            @Parameter(description = "Only incidents resolved before this time (ISO-8601)")
+            LocalDateTime resolvedTo,
+
+            @RequestParam(defaultValue = "DESC")
+            @Parameter(description = "Sort direction on createdAt: DESC (newest first) or ASC")
+            Sort.Direction direction,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Opaque cursor from the X-Next-Cursor header of the previous page")
+            String cursor,
+
+            @RequestParam(defaultValue = "" + IncidentService.DEFAULT_PAGE_SIZE)
+            @Parameter(description = "Page size (capped at " + IncidentService.MAX_PAGE_SIZE + ")")
+            int limit,
+
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Include the total number of matching incidents in the X-Total-Count header")
+            boolean includeTotal,
+
+            ServerWebExchange exchange) {
+
+        IncidentFilter filter = IncidentFilter.builder()
+                .status(status)
+                .priority(priority)
+                .assignee(assignee)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .resolvedFrom(resolvedFrom)
+                .resolvedTo(resolvedTo)
+                .direction(direction)
+                .build();
+
+        log.debug("GET /api/incidents - filter={}, cursor={}, limit={}", filter, cursor, limit);
+
+        // The aggregate scans every matching row, so a plain keyset page does not pay for it.
+        // Read before the page, so a concurrent write can only make the ETag older than the body
+        Mono<CursorPage<IncidentResponse>> page = incidentService.getIncidentPage(filter, cursor, limit)
+                .map(incidents -> incidents.map(ReactiveIncident::toResponse));
+        if (!includeTotal && exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH) == null) {
+            return page.map(items -> listResponse(items, null, false));
+        }
+        return incidentService.getIncidentsFingerprint(filter).flatMap(fingerprint ->
+                // Only the ETag is checked: deleting an incident does not move its Last-Modified
+                exchange.checkNotModified(fingerprint.eTag())
+                        ? Mono.empty()
+                        : page.map(items -> listResponse(items, fingerprint, includeTotal)));
+    }
+
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Export incidents",
+               description = "Stream all incidents matching the optional filters in id order, " +
+                           "either as newline-delimited JSON (default) or as a JSON array. " +
+                           "Rows are pulled from the database only as fast as the client reads them.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream started"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter parameter or format")
+    })
+    public ResponseEntity<Flux<IncidentResponse>> exportIncidents(
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by incident status")
+            Status status,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Filter by incident priority")
+            Priority priority,
+
+            @RequestParam(defaultValue = "ndjson")
+            @Parameter(description = "Output format: ndjson or json")
+            String format) {
+
+        log.debug("GET /api/incidents/export - status={}, priority={}, format={}", status, priority, format);
+
+        MediaType contentType;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            contentType = MediaType.APPLICATION_NDJSON;
+        } else if ("json".equalsIgnoreCase(format)) {
+            contentType = MediaType.APPLICATION_JSON;
+        } else {
+            throw new ValidationException("Unsupported export format: " + format);
+        }
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(incidentService.exportIncidents(status, priority).map(ReactiveIncident::toResponse));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get incident statistics",
+               description = "Incident counts per status, priority and assignee, with roll-ups per dimension. " +
+                           "Served from live in-memory counters that are periodically reconciled with the database.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved statistics")
+    })
+    public Mono<IncidentStatsResponse> getIncidentStats() {
+        log.debug("GET /api/incidents/stats");
+        return Mono.fromSupplier(incidentCounters::snapshot);
+    }
+
+    @GetMapping("/overdue")
+    @Operation(summary = "Get overdue incidents",
+               description = "Open and in-progress incidents created more than the given number of days ago, " +
+                           "oldest first. Served from an in-memory set kept up to date by a background scan.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved overdue incidents"),
+        @ApiResponse(responseCode = "400", description = "Negative number of days")
+    })
+    public Flux<IncidentResponse> getOverdueIncidents(
+            @RequestParam(defaultValue = "7")
+            @Parameter(description = "Minimum age in days")
+            int days,
+
+            @RequestParam(required = false)
+            @Parameter(description = "Only incidents of this priority")
+            Priority priority) {
+
+        log.debug("GET /api/incidents/overdue - days={}, priority={}", days, priority);
+        return incidentService.getOverdueIncidents(days, priority);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search incidents",
+               description = "Full-text search over titles and descriptions. Incidents must contain every term; " +
+                           "the most relevant come first. Highlights are HTML-escaped, with matched terms wrapped in <mark> tags.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully searched incidents"),
+        @ApiResponse(responseCode = "400", description = "Blank query or invalid limit")
+    })
+    public Mono<List<IncidentSearchHit>> searchIncidents(
+            @RequestParam
+            @Parameter(description = "Search terms, e.g. timeout 503")
+            String q,
+
+            @RequestParam(defaultValue = "20")
+            @Parameter(description = "Maximum number of hits (at most " + IncidentService.MAX_PAGE_SIZE + ")")
+            int limit) {
+
+        log.debug("GET /api/incidents/search - q={}, limit={}", q, limit);
+        return incidentService.searchIncidents(q, limit);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get incident by ID",
+               description = "Retrieve a specific incident by its unique identifier. " +
+                           "The response carries an ETag and Last-Modified derived from updatedAt; " +
+                           "conditional requests are checked without loading the incident.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved incident"),
+        @ApiResponse(responseCode = "304", description = "Incident unchanged since the If-None-Match/If-Modified-Since version"),
+        @ApiResponse(responseCode = "404", description = "Incident not found")
+    })
+    public Mono<ResponseEntity<IncidentResponse>> getIncidentById(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id,
+
+            ServerWebExchange exchange) {
+
+        log.debug("GET /api/incidents/{}", id);
+        Mono<ResponseEntity<IncidentResponse>> incident = incidentService.getIncidentById(id)
+                .map(ReactiveIncidentController::versioned);
+        if (!isConditional(exchange)) {
+            return incident;
+        }
+        return incidentService.getIncidentFingerprint(id).flatMap(current ->
+                exchange.checkNotModified(current.eTag(), Instant.ofEpochMilli(current.lastModifiedMillis()))
+                        ? Mono.empty()
+                        : incident);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Create new incident",
+               description = "Create a new incident with the provided information")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Incident successfully created"),
+        @ApiResponse(responseCode = "400", description = "Invalid request body")
+    })
+    public Mono<IncidentResponse> createIncident(
+            @Valid @RequestBody
+            IncidentRequest request) {
+
+        log.debug("POST /api/incidents - title={}", request.getTitle());
+        return incidentService.createIncident(request).map(ReactiveIncident::toResponse);
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update incident",
+               description = "Update all fields of an existing incident. " +
+                           "With If-Match set to the incident's ETag, the update only applies to that version.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Incident successfully updated"),
+        @ApiResponse(responseCode = "400", description = "Invalid request body or If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Incident not found"),
+        @ApiResponse(responseCode = "409", description = "Incident was modified since the If-Match version, or concurrently")
+    })
+    public Mono<ResponseEntity<IncidentResponse>> updateIncident(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id,
+
+            @Valid @RequestBody
+            IncidentRequest request,
+
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag of the version the update is based on, or *")
+            String ifMatch) {
+
+        log.debug("PUT /api/incidents/{}", id);
+        Long expectedVersion = IncidentController.expectedVersion(ifMatch);
+        return incidentService.updateIncident(id, request, expectedVersion).map(ReactiveIncidentController::versioned);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {IncidentController.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update incident",
+               description = "Apply a JSON Merge Patch (RFC 7396): fields present in the body replace the " +
+                           "current values, null clears them, absent fields are kept. " +
+                           "Only the columns that change are written. If-Match works as for PUT.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Incident successfully updated"),
+        @ApiResponse(responseCode = "400", description = "Body is not a JSON object, the patched incident is invalid, " +
+                                                         "or the If-Match header is malformed"),
+        @ApiResponse(responseCode = "404", description = "Incident not found"),
+        @ApiResponse(responseCode = "409", description = "Incident was modified since the If-Match version, or concurrently")
+    })
+    public Mono<ResponseEntity<IncidentResponse>> patchIncident(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id,
+
+            @RequestBody
+            @Parameter(description = "Merge patch with any of title, description, priority, status and assignee")
+            JsonNode patch,
+
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag of the version the patch is based on, or *")
+            String ifMatch) {
+
+        log.debug("PATCH /api/incidents/{} - fields={}", id, patch.size());
+        if (!patch.isObject()) {
+            throw new ValidationException("Merge patch must be a JSON object");
+        }
+        Long expectedVersion = IncidentController.expectedVersion(ifMatch);
+        return incidentService.patchIncident(id, current -> {
+            try {
+                return objectMapper.readerForUpdating(current).readValue(patch);
+            } catch (IOException e) {
+                throw new ValidationException("Invalid merge patch: " + e.getMessage(), e);
+            }
+        }, expectedVersion).map(ReactiveIncidentController::versioned);
+    }
+
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Update incident status only",
+               description = "Update only the status of an incident. " +
+                           "When set to RESOLVED, resolvedAt timestamp is automatically recorded.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status successfully updated"),
+        @ApiResponse(responseCode = "404", description = "Incident not found")
+    })
+    public Mono<ResponseEntity<IncidentResponse>> updateStatus(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id,
+
+            @RequestBody
+            @Parameter(description = "New incident status")
+            Status status) {
+
+        log.debug("PATCH /api/incidents/{}/status - status={}", id, status);
+        return incidentService.updateStatus(id, status).map(ReactiveIncidentController::versioned);
+    }
+
+    @PostMapping("/{id}/transition")
+    @Operation(summary = "Transition incident status",
+               description = "Move an incident from expectedStatus to newStatus with one conditional UPDATE. " +
+                           "If the incident no longer has expectedStatus nothing is written, " +
+                           "so concurrent automations cannot overwrite each other's transitions.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status successfully transitioned"),
+        @ApiResponse(responseCode = "400", description = "Missing expected or new status"),
+        @ApiResponse(responseCode = "404", description = "Incident not found"),
+        @ApiResponse(responseCode = "409", description = "Incident does not have the expected status")
+    })
+    public Mono<ResponseEntity<IncidentResponse>> transitionStatus(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id,
+
+            @Valid @RequestBody
+            StatusTransitionRequest request) {
+
+        log.debug("POST /api/incidents/{}/transition - {} -> {}", id, request.getExpectedStatus(), request.getNewStatus());
+        return incidentService.transitionStatus(id, request.getExpectedStatus(), request.getNewStatus())
+                .map(ReactiveIncidentController::versioned);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete incident",
+               description = "Permanently delete an incident")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Incident successfully deleted"),
+        @ApiResponse(responseCode = "404", description = "Incident not found")
+    })
+    public Mono<Void> deleteIncident(
+            @PathVariable
+            @Parameter(description = "Incident ID")
+            Long id) {
+
+        log.debug("DELETE /api/incidents/{}", id);
+        return incidentService.deleteIncident(id);
+    }
+
+    /**
+     * 200 response for an incident, carrying its ETag for the next If-None-Match or If-Match.
+     */
+    private static ResponseEntity<IncidentResponse> versioned(ReactiveIncident incident) {
+        IncidentFingerprint fingerprint = IncidentFingerprint.of(incident.toEntity());
+        return ResponseEntity.ok()
+                .eTag(fingerprint.eTag())
+                .lastModified(fingerprint.lastModifiedMillis())
+                .body(incident.toResponse());
+    }
+
+    private static ResponseEntity<List<IncidentResponse>> listResponse(CursorPage<IncidentResponse> page,
+                                                                      IncidentFingerprint fingerprint,
+                                                                      boolean includeTotal) {
+        HttpHeaders headers = new HttpHeaders();
+        if (fingerprint != null) {
+            headers.setETag(fingerprint.eTag());
+            if (fingerprint.lastModified() != null) {
+                headers.setLastModified(fingerprint.lastModifiedMillis());
+            }
+        }
+        if (page.hasNext()) {
+            headers.set(IncidentController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        if (includeTotal) {
+            headers.set(IncidentController.TOTAL_COUNT_HEADER, String.valueOf(fingerprint.count()));
+        }
+        return ResponseEntity.ok().headers(headers).body(page.getItems());
+    }
+
+    /**
+     * Whether the client sent a validator, so checking it before loading the incident can pay off.
+     */
+    private static boolean isConditional(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        return headers.getFirst(HttpHeaders.IF_NONE_MATCH) != null
+                || headers.getFirst(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
+import com.example.incidenttracker.graphql.IncidentConnection;
+import com.example.incidenttracker.graphql.IncidentGraphQLController;
+import com.example.incidenttracker.graphql.IncidentGraphQLController.CreateIncidentInput;
+import com.example.incidenttracker.graphql.IncidentGraphQLController.IncidentFilterInput;
+import com.example.incidenttracker.graphql.IncidentGraphQLController.UpdateIncidentInput;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.service.IncidentService;
+import com.example.incidenttracker.stats.IncidentCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking GraphQL resolvers, active with the reactive profile.
+ * Resolves the same schema as {@link IncidentGraphQLController}, except the
+ * bulk mutations, which are only available on the servlet stack.
+ */
+@Controller
+@Profile("reactive")
+@Slf4j
+public class ReactiveIncidentGraphQLController {
+
+    private final ReactiveIncidentService incidentService;
+    private final IncidentCounters incidentCounters;
+
+    /**
+     * Most incidents returned by a list field without a "first" argument;
+     * the rest of the result is cancelled rather than read.
+     */
+    private final int maxListSize;
+
+    public ReactiveIncidentGraphQLController(
+            ReactiveIncidentService incidentService,
+            IncidentCounters incidentCounters,
+            @Value("${incident-tracker.graphql.max-list-size:1000}") int maxListSize) {
+        this.incidentService = incidentService;
+        this.incidentCounters = incidentCounters;
+        this.maxListSize = maxListSize;
+    }
+
+    // ============ QUERIES ============
+
+    @QueryMapping
+    public Flux<ReactiveIncident> incidents(@Argument IncidentFilterInput filter) {
+        log.debug("GraphQL query: incidents(filter={})", filter);
+        return incidentService.getIncidents(filter != null ? filter.toFilter() : IncidentFilter.none())
+                .take(maxListSize);
+    }
+
+    @QueryMapping
+    public Mono<ReactiveIncident> incident(@Argument Long id) {
+        log.debug("GraphQL query: incident(id={})", id);
+        return incidentService.getIncidentById(id);
+    }
+
+    @QueryMapping
+    public Flux<ReactiveIncident> incidentsByStatus(@Argument Status status) {
+        log.debug("GraphQL query: incidentsByStatus(status={})", status);
+        return incidentService.getIncidentsByStatus(status).take(maxListSize);
+    }
+
+    @QueryMapping
+    public Flux<ReactiveIncident> incidentsByPriority(@Argument Priority priority) {
+        log.debug("GraphQL query: incidentsByPriority(priority={})", priority);
+        return incidentService.getIncidentsByPriority(priority).take(maxListSize);
+    }
+
+    @QueryMapping
+    public Flux<ReactiveIncident> incidentsByAssignee(@Argument String assignee) {
+        log.debug("GraphQL query: incidentsByAssignee(assignee={})", assignee);
+        return incidentService.getIncidentsByAssignee(assignee).take(maxListSize);
+    }
+
+    @QueryMapping
+    public Mono<IncidentConnection> incidentsConnection(@Argument IncidentFilterInput filter,
+                                                        @Argument Integer first,
+                                                        @Argument String after) {
+        log.debug("GraphQL query: incidentsConnection(filter={}, first={}, after={})", filter, first, after);
+        return connection(filter != null ? filter.toFilter() : IncidentFilter.none(), first, after);
+    }
+
+    @QueryMapping
+    public Mono<IncidentConnection> incidentsByStatusConnection(@Argument Status status,
+                                                                @Argument Integer first,
+                                                                @Argument String after) {
+        log.debug("GraphQL query: incidentsByStatusConnection(status={}, first={}, after={})",
+                  status, first, after);
+        return connection(IncidentFilter.builder().status(status).build(), first, after);
+    }
+
+    @QueryMapping
+    public Mono<IncidentConnection> incidentsByPriorityConnection(@Argument Priority priority,
+                                                                  @Argument Integer first,
+                                                                  @Argument String after) {
+        log.debug("GraphQL query: incidentsByPriorityConnection(priority={}, first={}, after={})",
+                  priority, first, after);
+        return connection(IncidentFilter.builder().priority(priority).build(), first, after);
+    }
+
+    @QueryMapping
+    public Mono<IncidentConnection> incidentsByAssigneeConnection(@Argument String assignee,
+                                                                  @Argument Integer first,
+                                                                  @Argument String after) {
+        log.debug("GraphQL query: incidentsByAssigneeConnection(assignee={}, first={}, after={})",
+                  assignee, first, after);
+        return connection(IncidentFilter.builder().assignee(assignee).build(), first, after);
+    }
+
+    @QueryMapping
+    public IncidentStatsResponse incidentStats() {
+        log.debug("GraphQL query: incidentStats()");
+        return incidentCounters.snapshot();
+    }
+
+    @QueryMapping
+    public Flux<IncidentResponse> overdueIncidents(@Argument int days, @Argument Priority priority) {
+        log.debug("GraphQL query: overdueIncidents(days={}, priority={})", days, priority);
+        return incidentService.getOverdueIncidents(days, priority).take(maxListSize);
+    }
+
+    private Mono<IncidentConnection> connection(IncidentFilter filter, Integer first, String after) {
+        int limit = first != null ? first : IncidentService.DEFAULT_PAGE_SIZE;
+        return incidentService.getIncidentPage(filter, after, limit)
+                .map(page -> IncidentConnection.from(page.map(ReactiveIncident::toEntity), after));
+    }
+
+    // ============ MUTATIONS ============
+
+    @MutationMapping
+    public Mono<ReactiveIncident> createIncident(@Argument CreateIncidentInput input) {
+        log.info("GraphQL mutation: createIncident(title={})", input.title());
+        return incidentService.createIncident(input.toRequest());
+    }
+
+    @MutationMapping
+    public Mono<ReactiveIncident> updateIncident(@Argument Long id, @Argument UpdateIncidentInput input) {
+        log.info("GraphQL mutation: updateIncident(id={})", id);
+
+        IncidentRequest request = IncidentRequest.builder()
+                .title(input.title())
+                .description(input.description())
+                .priority(input.priority())
+                .status(input.status())
+                .assignee(input.assignee())
+                .build();
+
+        return incidentService.updateIncident(id, request);
+    }
+
+    @MutationMapping
+    public Mono<ReactiveIncident> updateStatus(@Argument Long id, @Argument Status status) {
+        log.info("GraphQL mutation: updateStatus(id={}, status={})", id, status);
+        return incidentService.updateStatus(id, status);
+    }
+
+    @MutationMapping
+    public Mono<Boolean> deleteIncident(@Argument Long id) {
+        log.info("GraphQL mutation: deleteIncident(id={})", id);
+        return incidentService.deleteIncident(id).thenReturn(true);
+    }
+}
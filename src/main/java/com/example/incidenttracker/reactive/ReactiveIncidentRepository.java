@@ -0,0 +1,61 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive counterpart of {@link com.example.incidenttracker.repository.IncidentRepository}.
+ * Results are emitted as rows arrive from the database, with backpressure
+ * propagated to the R2DBC driver.
+ */
+@Repository
+@Profile("reactive")
+public interface ReactiveIncidentRepository extends ReactiveCrudRepository<ReactiveIncident, Long> {
+
+    /**
+     * Find all incidents by status.
+     */
+    Flux<ReactiveIncident> findByStatus(Status status);
+
+    /**
+     * Find all incidents by priority.
+     */
+    Flux<ReactiveIncident> findByPriority(Priority priority);
+
+    /**
+     * Find all incidents assigned to a specific person.
+     */
+    Flux<ReactiveIncident> findByAssignee(String assignee);
+
+    /**
+     * Find incidents by both status and priority.
+     */
+    Flux<ReactiveIncident> findByStatusAndPriority(Status status, Priority priority);
+
+    /**
+     * Find incidents that are open or in progress and older than a specified date.
+     *
+     * @param cutoffDate the cutoff date
+     * @return overdue incidents
+     */
+    @Query("SELECT * FROM incidents WHERE status IN ('OPEN', 'IN_PROGRESS') AND created_at < :cutoffDate")
+    Flux<ReactiveIncident> findOverdueIncidents(LocalDateTime cutoffDate);
+
+    /**
+     * Count incidents by status.
+     */
+    Mono<Long> countByStatus(Status status);
+
+    /**
+     * Count incidents by priority.
+     */
+    Mono<Long> countByPriority(Priority priority);
+}
@@ -0,0 +1,508 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.IncidentCursor;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.dto.IncidentFingerprint;
+import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.exception.ConflictException;
+import com.example.incidenttracker.exception.ResourceNotFoundException;
+import com.example.incidenttracker.exception.ValidationException;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.search.IncidentSearch;
+import com.example.incidenttracker.service.IncidentService;
+import com.example.incidenttracker.stats.IncidentCounters;
+import com.example.incidenttracker.stats.OverdueIncidents;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.core.StatementMapper;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.H2Dialect;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.SimpleFunction;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Non-blocking incident operations for the reactive profile.
+ *
+ * Follows the same rules as {@link IncidentService}: filters combine into one
+ * WHERE clause, lists are keyset-paginated on (createdAt, id), new incidents
+ * default to LOW/OPEN, and resolvedAt is set the first time an incident
+ * becomes RESOLVED. Creates and status transitions are single statements.
+ * Updates, status changes and merge patches read the incident first and write
+ * with a version check, so a write that lands in between fails with a conflict
+ * instead of being overwritten; deletes read it to know what to uncount, then
+ * delete by id.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactiveIncidentService {
+
+    /**
+     * Columns of {@link ReactiveIncident}, for statements that return the written row.
+     */
+    private static final String COLUMNS =
+            "id, title, description, priority, status, assignee, created_at, updated_at, resolved_at, version";
+
+    private final ReactiveIncidentRepository incidentRepository;
+    private final R2dbcEntityTemplate template;
+    private final DatabaseClient databaseClient;
+    private final IncidentCounters incidentCounters;
+    private final OverdueIncidents overdueIncidents;
+    private final IncidentSearch incidentSearch;
+    private final Validator validator;
+    private final boolean h2;
+
+    public ReactiveIncidentService(ReactiveIncidentRepository incidentRepository,
+                                   R2dbcEntityTemplate template,
+                                   ConnectionFactory connectionFactory,
+                                   IncidentCounters incidentCounters,
+                                   OverdueIncidents overdueIncidents,
+                                   IncidentSearch incidentSearch,
+                                   Validator validator) {
+        this.incidentRepository = incidentRepository;
+        this.template = template;
+        this.databaseClient = template.getDatabaseClient();
+        this.incidentCounters = incidentCounters;
+        this.overdueIncidents = overdueIncidents;
+        this.incidentSearch = incidentSearch;
+        this.validator = validator;
+        this.h2 = DialectResolver.getDialect(connectionFactory) instanceof H2Dialect;
+    }
+
+    /**
+     * @see IncidentService#getIncidentPage(IncidentFilter, String, int)
+     */
+    public Mono<CursorPage<ReactiveIncident>> getIncidentPage(IncidentFilter filter, String cursor, int limit) {
+        if (limit < 1) {
+            return Mono.error(new ValidationException("Limit must be at least 1"));
+        }
+        int pageSize = Math.min(limit, IncidentService.MAX_PAGE_SIZE);
+        IncidentFilter effective = filter != null ? filter : IncidentFilter.none();
+        Criteria criteria;
+        try {
+            criteria = matching(effective);
+            if (cursor != null && !cursor.isBlank()) {
+                criteria = criteria.and(after(IncidentCursor.decode(cursor), effective.getDirection()));
+            }
+        } catch (ValidationException ex) {
+            return Mono.error(ex);
+        }
+
+        log.debug("Fetching incident page matching {}, limit={}", effective, pageSize);
+        return template.select(ReactiveIncident.class)
+                .matching(Query.query(criteria).sort(sortFor(effective)).limit(pageSize + 1))
+                .all()
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > pageSize;
+                    List<ReactiveIncident> items = hasNext ? rows.subList(0, pageSize) : rows;
+                    String nextCursor = null;
+                    if (hasNext) {
+                        ReactiveIncident last = items.get(items.size() - 1);
+                        nextCursor = new IncidentCursor(last.getCreatedAt(), last.getId()).encode();
+                    }
+                    return new CursorPage<>(List.copyOf(items), nextCursor);
+                });
+    }
+
+    /**
+     * One COUNT/MAX(updated_at) query over the incidents matching the filter.
+     *
+     * @see IncidentService#getIncidentsFingerprint(IncidentFilter)
+     */
+    public Mono<IncidentFingerprint> getIncidentsFingerprint(IncidentFilter filter) {
+        StatementMapper mapper = template.getDataAccessStrategy().getStatementMapper().forType(ReactiveIncident.class);
+        Table incidents = Table.create(template.getDataAccessStrategy().getTableName(ReactiveIncident.class));
+        StatementMapper.SelectSpec select = mapper.createSelect(incidents.getName())
+                .withProjection(Functions.count(Expressions.asterisk()),
+                        SimpleFunction.create("MAX", List.of(Column.create("updated_at", incidents))))
+                .withCriteria(matching(filter != null ? filter : IncidentFilter.none()));
+        return databaseClient.sql(mapper.getMappedObject(select))
+                .map(row -> new IncidentFingerprint(row.get(0, Number.class).longValue(), row.get(1, LocalDateTime.class)))
+                .one();
+    }
+
+    /**
+     * Read only the version columns of an incident.
+     *
+     * @see IncidentService#getIncidentFingerprint(Long)
+     */
+    public Mono<IncidentFingerprint> getIncidentFingerprint(Long id) {
+        return databaseClient.sql("SELECT updated_at, version FROM incidents WHERE id = :id")
+                .bind("id", id)
+                .map(row -> new IncidentFingerprint(1, row.get("updated_at", LocalDateTime.class),
+                        row.get("version", Long.class)))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Incident not found with id: " + id)));
+    }
+
+    /**
+     * Every incident matching the filter, in (createdAt, id) order.
+     */
+    public Flux<ReactiveIncident> getIncidents(IncidentFilter filter) {
+        IncidentFilter effective = filter != null ? filter : IncidentFilter.none();
+        return template.select(ReactiveIncident.class)
+                .matching(Query.query(matching(effective)).sort(sortFor(effective)))
+                .all();
+    }
+
+    /**
+     * Stream incidents in id order. Rows are requested from the driver only as
+     * fast as the subscriber consumes them.
+     */
+    public Flux<ReactiveIncident> exportIncidents(Status status, Priority priority) {
+        log.info("Exporting incidents: status={}, priority={}", status, priority);
+        IncidentFilter filter = IncidentFilter.builder().status(status).priority(priority).build();
+        return template.select(ReactiveIncident.class)
+                .matching(Query.query(matching(filter)).sort(Sort.by("id")))
+                .all();
+    }
+
+    public Mono<ReactiveIncident> getIncidentById(Long id) {
+        return incidentRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Incident not found with id: " + id)));
+    }
+
+    public Flux<ReactiveIncident> getIncidentsByStatus(Status status) {
+        return incidentRepository.findByStatus(status);
+    }
+
+    public Flux<ReactiveIncident> getIncidentsByPriority(Priority priority) {
+        return incidentRepository.findByPriority(priority);
+    }
+
+    public Flux<ReactiveIncident> getIncidentsByAssignee(String assignee) {
+        return incidentRepository.findByAssignee(assignee);
+    }
+
+    public Flux<ReactiveIncident> getOverdueIncidents(int daysOld) {
+        return incidentRepository.findOverdueIncidents(LocalDateTime.now().minusDays(daysOld));
+    }
+
+    /**
+     * @see IncidentService#getOverdueIncidents(int, Priority)
+     */
+    public Flux<IncidentResponse> getOverdueIncidents(int daysOld, Priority priority) {
+        if (daysOld < 0) {
+            return Flux.error(new ValidationException("Days must not be negative"));
+        }
+        return Flux.defer(() -> Flux.fromIterable(overdueIncidents.find(daysOld, priority)));
+    }
+
+    /**
+     * The engine may block on JDBC, so the search runs on the bounded elastic scheduler.
+     *
+     * @see IncidentService#searchIncidents(String, int)
+     */
+    public Mono<List<IncidentSearchHit>> searchIncidents(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return Mono.error(new ValidationException("Search query must not be blank"));
+        }
+        if (limit < 1) {
+            return Mono.error(new ValidationException("Limit must be at least 1"));
+        }
+        int hits = Math.min(limit, IncidentService.MAX_PAGE_SIZE);
+        log.debug("Searching incidents for '{}', limit={}", query, hits);
+        return Mono.fromCallable(() -> incidentSearch.search(query.strip(), hits))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<ReactiveIncident> createIncident(IncidentRequest request) {
+        log.info("Creating new incident: {}", request.getTitle());
+        LocalDateTime now = now();
+        // Ids come from the sequence shared with JPA; each value is a block start JPA never hands out
+        String nextIdSql = h2 ? "SELECT NEXT VALUE FOR incidents_seq" : "SELECT nextval('incidents_seq')";
+        return databaseClient.sql(nextIdSql)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> template.insert(ReactiveIncident.builder()
+                        .id(id)
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .priority(request.getPriority() != null ? request.getPriority() : Priority.LOW)
+                        .status(request.getStatus() != null ? request.getStatus() : Status.OPEN)
+                        .assignee(request.getAssignee())
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build()))
+                .doOnNext(saved -> {
+                    incidentCounters.record(null, saved.state());
+                    IncidentResponse response = saved.toResponse();
+                    overdueIncidents.record(response);
+                    incidentSearch.record(response);
+                });
+    }
+
+    public Mono<ReactiveIncident> updateIncident(Long id, IncidentRequest request) {
+        return updateIncident(id, request, null);
+    }
+
+    /**
+     * @see IncidentService#updateIncident(Long, IncidentRequest, Long)
+     */
+    public Mono<ReactiveIncident> updateIncident(Long id, IncidentRequest request, Long expectedVersion) {
+        log.info("Updating incident with id: {}", id);
+        return getIncidentById(id, expectedVersion).flatMap(incident -> {
+            IncidentState before = incident.state();
+            incident.setTitle(request.getTitle());
+            incident.setDescription(request.getDescription());
+            incident.setPriority(request.getPriority());
+            incident.setAssignee(request.getAssignee());
+            if (request.getStatus() != null) {
+                incident.setStatus(request.getStatus());
+            }
+            return save(incident, before);
+        });
+    }
+
+    /**
+     * Writes only the columns the patch changes, guarded by the version read,
+     * and nothing at all when it changes none.
+     *
+     * @see IncidentService#patchIncident(Long, UnaryOperator, Long)
+     */
+    public Mono<ReactiveIncident> patchIncident(Long id, UnaryOperator<IncidentRequest> patch, Long expectedVersion) {
+        log.info("Patching incident with id: {}", id);
+        return getIncidentById(id, expectedVersion).flatMap(incident -> {
+            IncidentRequest request = patch.apply(toRequest(incident));
+            List<String> errors = validator.validate(request).stream()
+                    .map(ConstraintViolation::getMessage).sorted().toList();
+            if (!errors.isEmpty()) {
+                return Mono.error(new ValidationException(String.join("; ", errors)));
+            }
+            if (request.getPriority() == null || request.getStatus() == null) {
+                return Mono.error(new ValidationException("Priority and status must not be null"));
+            }
+            return applyPatch(incident, request);
+        });
+    }
+
+    public Mono<ReactiveIncident> updateStatus(Long id, Status status) {
+        log.info("Updating status of incident {} to {}", id, status);
+        return getIncidentById(id).flatMap(incident -> {
+            IncidentState before = incident.state();
+            incident.setStatus(status);
+            return save(incident, before);
+        });
+    }
+
+    /**
+     * One conditional UPDATE that also returns the new row; only when it matches
+     * nothing is the incident read again, to tell a conflict from a missing incident.
+     *
+     * @see IncidentService#transitionStatus(Long, Status, Status)
+     */
+    public Mono<ReactiveIncident> transitionStatus(Long id, Status expectedStatus, Status newStatus) {
+        if (expectedStatus == null || newStatus == null) {
+            return Mono.error(new ValidationException("Expected and new status are required"));
+        }
+        log.info("Transitioning incident {} from {} to {}", id, expectedStatus, newStatus);
+
+        String update = "UPDATE incidents SET status = :newStatus, updated_at = :now, version = version + 1"
+                + (newStatus == Status.RESOLVED ? ", resolved_at = COALESCE(resolved_at, :now)" : "")
+                + " WHERE id = :id AND status = :expectedStatus";
+        String sql = h2
+                ? "SELECT " + COLUMNS + " FROM FINAL TABLE (" + update + ")"
+                : update + " RETURNING " + COLUMNS;
+        return databaseClient.sql(sql)
+                .bind("newStatus", newStatus.name())
+                .bind("now", now())
+                .bind("id", id)
+                .bind("expectedStatus", expectedStatus.name())
+                .map((row, metadata) -> template.getConverter().read(ReactiveIncident.class, row, metadata))
+                .one()
+                .switchIfEmpty(Mono.defer(() -> getIncidentById(id).flatMap(current -> Mono.error(
+                        new ConflictException("Incident " + id + " is " + current.getStatus() + ", not " + expectedStatus)))))
+                .doOnNext(updated -> {
+                    // only the status changed, so the rest of the previous state is the new row's
+                    incidentCounters.record(
+                            new IncidentState(expectedStatus, updated.getPriority(), updated.getAssignee()),
+                            updated.state());
+                    IncidentResponse response = updated.toResponse();
+                    overdueIncidents.record(response);
+                    incidentSearch.record(response);
+                });
+    }
+
+    public Mono<Void> deleteIncident(Long id) {
+        log.info("Deleting incident with id: {}", id);
+        return getIncidentById(id)
+                .flatMap(incident -> incidentRepository.delete(incident)
+                        .then(Mono.fromRunnable(() -> {
+                            incidentCounters.record(incident.state(), null);
+                            overdueIncidents.remove(id);
+                            incidentSearch.remove(id);
+                        })));
+    }
+
+    /**
+     * The incident, failing with a conflict when {@code expectedVersion} is set and differs.
+     */
+    private Mono<ReactiveIncident> getIncidentById(Long id, Long expectedVersion) {
+        return getIncidentById(id).flatMap(incident -> {
+            if (expectedVersion != null && !expectedVersion.equals(incident.getVersion())) {
+                return Mono.error(new ConflictException("Incident " + id + " is at version "
+                        + incident.getVersion() + ", not " + expectedVersion));
+            }
+            return Mono.just(incident);
+        });
+    }
+
+    private Mono<ReactiveIncident> applyPatch(ReactiveIncident incident, IncidentRequest request) {
+        IncidentState before = incident.state();
+        LocalDateTime now = now();
+        Update update = Update.update("version", incident.getVersion() + 1).set("updatedAt", now);
+        boolean changed = false;
+        if (!Objects.equals(incident.getTitle(), request.getTitle())) {
+            incident.setTitle(request.getTitle());
+            update = update.set("title", request.getTitle());
+            changed = true;
+        }
+        if (!Objects.equals(incident.getDescription(), request.getDescription())) {
+            incident.setDescription(request.getDescription());
+            update = update.set("description", request.getDescription());
+            changed = true;
+        }
+        if (incident.getPriority() != request.getPriority()) {
+            incident.setPriority(request.getPriority());
+            update = update.set("priority", request.getPriority());
+            changed = true;
+        }
+        if (!Objects.equals(incident.getAssignee(), request.getAssignee())) {
+            incident.setAssignee(request.getAssignee());
+            update = update.set("assignee", request.getAssignee());
+            changed = true;
+        }
+        if (incident.getStatus() != request.getStatus()) {
+            incident.setStatus(request.getStatus());
+            update = update.set("status", request.getStatus());
+            changed = true;
+            if (request.getStatus() == Status.RESOLVED && incident.getResolvedAt() == null) {
+                incident.setResolvedAt(now);
+                update = update.set("resolvedAt", now);
+            }
+        }
+        if (!changed) {
+            return Mono.just(incident);
+        }
+
+        Long version = incident.getVersion();
+        return template.update(ReactiveIncident.class)
+                .matching(Query.query(Criteria.where("id").is(incident.getId()).and("version").is(version)))
+                .apply(update)
+                .flatMap(rows -> {
+                    if (rows == 0) {
+                        return Mono.error(new OptimisticLockingFailureException(
+                                "Incident " + incident.getId() + " was modified concurrently"));
+                    }
+                    incident.setVersion(version + 1);
+                    incident.setUpdatedAt(now);
+                    incidentCounters.record(before, incident.state());
+                    IncidentResponse response = incident.toResponse();
+                    overdueIncidents.record(response);
+                    incidentSearch.record(response);
+                    return Mono.just(incident);
+                });
+    }
+
+    private Mono<ReactiveIncident> save(ReactiveIncident incident, IncidentState before) {
+        incident.setUpdatedAt(now());
+        if (incident.getStatus() == Status.RESOLVED && incident.getResolvedAt() == null) {
+            incident.setResolvedAt(incident.getUpdatedAt());
+        }
+        return template.update(incident)
+                .doOnNext(saved -> {
+                    incidentCounters.record(before, saved.state());
+                    IncidentResponse response = saved.toResponse();
+                    overdueIncidents.record(response);
+                    incidentSearch.record(response);
+                });
+    }
+
+    private static IncidentRequest toRequest(ReactiveIncident incident) {
+        return IncidentRequest.builder()
+                .title(incident.getTitle())
+                .description(incident.getDescription())
+                .priority(incident.getPriority())
+                .status(incident.getStatus())
+                .assignee(incident.getAssignee())
+                .build();
+    }
+
+    /**
+     * R2DBC counterpart of {@link com.example.incidenttracker.repository.IncidentSpecifications#matching}.
+     */
+    static Criteria matching(IncidentFilter filter) {
+        Criteria criteria = Criteria.empty();
+        if (filter.getStatus() != null) {
+            criteria = criteria.and("status").is(filter.getStatus());
+        }
+        if (filter.getPriority() != null) {
+            criteria = criteria.and("priority").is(filter.getPriority());
+        }
+        if (filter.getAssignee() != null) {
+            criteria = criteria.and("assignee").is(filter.getAssignee());
+        }
+        if (filter.getCreatedFrom() != null) {
+            criteria = criteria.and("createdAt").greaterThanOrEquals(filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            criteria = criteria.and("createdAt").lessThan(filter.getCreatedTo());
+        }
+        if (filter.getResolvedFrom() != null) {
+            criteria = criteria.and("resolvedAt").greaterThanOrEquals(filter.getResolvedFrom());
+        }
+        if (filter.getResolvedTo() != null) {
+            criteria = criteria.and("resolvedAt").lessThan(filter.getResolvedTo());
+        }
+        return criteria;
+    }
+
+    /**
+     * Rows strictly after the cursor in (createdAt, id) order.
+     */
+    private static Criteria after(IncidentCursor cursor, Sort.Direction direction) {
+        if (direction == Sort.Direction.ASC) {
+            return Criteria.where("createdAt").greaterThan(cursor.createdAt())
+                    .or(Criteria.where("createdAt").is(cursor.createdAt()).and("id").greaterThan(cursor.id()));
+        }
+        return Criteria.where("createdAt").lessThan(cursor.createdAt())
+                .or(Criteria.where("createdAt").is(cursor.createdAt()).and("id").lessThan(cursor.id()));
+    }
+
+    private static Sort sortFor(IncidentFilter filter) {
+        return Sort.by(filter.getDirection(), "createdAt", "id");
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
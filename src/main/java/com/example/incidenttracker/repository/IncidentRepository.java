@@ -1,18 +1,37 @@
 package com.example.incidenttracker.repository;
 
+import com.example.incidenttracker.dto.IncidentCount;
+import com.example.incidenttracker.dto.IncidentFingerprint;
+import com.example.incidenttracker.dto.IncidentResponse;
 import com.example.incidenttracker.model.Incident;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface IncidentRepository extends JpaRepository<Incident, Long> {
+public interface IncidentRepository extends JpaRepository<Incident, Long>,
+        JpaSpecificationExecutor<Incident>, IncidentResponseRepository, IncidentWriteRepository {
+
+    /**
+     * Select clause that constructs {@link IncidentResponse} directly from the columns.
+     */
+    String SELECT_RESPONSE = "SELECT new com.example.incidenttracker.dto.IncidentResponse(" +
+            "i.id, i.title, i.description, i.priority, i.status, i.assignee, " +
+            "i.createdAt, i.updatedAt, i.resolvedAt) ";
 
     /**
      * Find all incidents by status.
@@ -45,6 +64,61 @@ public interface IncidentRepository extends JpaRepository<Incident, Long> {
            "AND i.createdAt < :cutoffDate")
     List<Incident> findOverdueIncidents(@Param("cutoffDate") LocalDateTime cutoffDate);
 
+    /**
+     * First open or in-progress incidents in (createdAt, id) order, as response DTOs.
+     *
+     * @param limit the maximum number of rows
+     * @return the oldest active incidents
+     */
+    @Query(SELECT_RESPONSE +
+           "FROM Incident i WHERE i.status IN ('OPEN', 'IN_PROGRESS') " +
+           "ORDER BY i.createdAt, i.id")
+    List<IncidentResponse> findActive(Limit limit);
+
+    /**
+     * Open or in-progress incidents after a (createdAt, id) position, in that order, as response DTOs.
+     *
+     * @param createdAt creation time of the position
+     * @param id id of the position
+     * @param limit the maximum number of rows
+     * @return the next active incidents
+     */
+    @Query(SELECT_RESPONSE +
+           "FROM Incident i WHERE i.status IN ('OPEN', 'IN_PROGRESS') " +
+           "AND (i.createdAt > :createdAt OR (i.createdAt = :createdAt AND i.id > :id)) " +
+           "ORDER BY i.createdAt, i.id")
+    List<IncidentResponse> findActiveAfter(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    /**
+     * Read only the modification time and version of an incident, for conditional requests.
+     *
+     * @param id the incident id
+     * @return the fingerprint, or empty if the incident does not exist
+     */
+    @Query("SELECT new com.example.incidenttracker.dto.IncidentFingerprint(1L, i.updatedAt, i.version) " +
+           "FROM Incident i WHERE i.id = :id")
+    Optional<IncidentFingerprint> findFingerprintById(@Param("id") Long id);
+
+    /**
+     * Read only the status of an incident.
+     *
+     * @param id the incident id
+     * @return the status, or empty if the incident does not exist
+     */
+    @Query("SELECT i.status FROM Incident i WHERE i.id = :id")
+    Optional<Status> findStatusById(@Param("id") Long id);
+
+    /**
+     * Find incidents by id as response DTOs, in no particular order.
+     *
+     * @param ids the incident ids
+     * @return the incidents that exist
+     */
+    @Query(SELECT_RESPONSE + "FROM Incident i WHERE i.id IN :ids")
+    List<IncidentResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Count incidents by status.
      */
@@ -54,4 +128,34 @@ public interface IncidentRepository extends JpaRepository<Incident, Long> {
      * Count incidents by priority.
      */
     long countByPriority(Priority priority);
+
+    /**
+     * Count incidents grouped by status, priority and assignee.
+     * Used to reconcile the in-memory incident counters.
+     */
+    @Query("SELECT i.status AS status, i.priority AS priority, i.assignee AS assignee, COUNT(i) AS total " +
+           "FROM Incident i GROUP BY i.status, i.priority, i.assignee")
+    List<IncidentCount> countByStatusPriorityAndAssignee();
+
+    /**
+     * Stream incidents for export as response DTOs, optionally filtered by status and priority.
+     * Rows are fetched from the JDBC cursor in chunks and constructed directly
+     * from the selected columns, so nothing is added to the persistence context.
+     * The caller must consume the stream inside a transaction and close it.
+     *
+     * @param status optional status filter
+     * @param priority optional priority filter
+     * @return a lazily populated stream of incidents ordered by id
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE +
+           "FROM Incident i " +
+           "WHERE (:status IS NULL OR i.status = :status) " +
+           "AND (:priority IS NULL OR i.priority = :priority) " +
+           "ORDER BY i.id")
+    Stream<IncidentResponse> streamResponsesForExport(@Param("status") Status status,
+                                                      @Param("priority") Priority priority);
 }
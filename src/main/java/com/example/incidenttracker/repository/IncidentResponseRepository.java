@@ -0,0 +1,26 @@
+package com.example.incidenttracker.repository;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Incident;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Read-only queries that select straight into {@link IncidentResponse}.
+ * The rows never become managed entities, so the persistence context holds
+ * no entries or snapshots for them and no entity-to-DTO copy is needed.
+ */
+public interface IncidentResponseRepository {
+
+    /**
+     * Find incidents matching a specification as response DTOs.
+     *
+     * @param spec the restriction, or null to match everything
+     * @param sort the order of the result
+     * @param limit the maximum number of rows to return
+     * @return the matching incidents, at most {@code limit} of them
+     */
+    List<IncidentResponse> findResponses(Specification<Incident> spec, Sort sort, int limit);
+}
@@ -0,0 +1,51 @@
+package com.example.incidenttracker.repository;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Incident;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link IncidentResponseRepository}, picked up
+ * by Spring Data as a fragment of {@link IncidentRepository}.
+ */
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+class IncidentResponseRepositoryImpl implements IncidentResponseRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<IncidentResponse> findResponses(Specification<Incident> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IncidentResponse> query = cb.createQuery(IncidentResponse.class);
+        Root<Incident> root = query.from(Incident.class);
+
+        // Argument order must match the IncidentResponse all-args constructor
+        query.select(cb.construct(IncidentResponse.class,
+                root.get("id"), root.get("title"), root.get("description"),
+                root.get("priority"), root.get("status"), root.get("assignee"),
+                root.get("createdAt"), root.get("updatedAt"), root.get("resolvedAt")));
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.incidenttracker.repository;
+
+import com.example.incidenttracker.dto.IncidentCursor;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reusable JPA specifications for querying incidents.
+ * A null argument yields a null specification, which Spring Data
+ * treats as "no restriction", so optional filters compose cleanly.
+ */
+public final class IncidentSpecifications {
+
+    private IncidentSpecifications() {
+    }
+
+    /**
+     * Combine every criterion of the filter into one specification.
+     *
+     * @param filter the filter, or null to match everything
+     * @return the combined specification
+     */
+    public static Specification<Incident> matching(IncidentFilter filter) {
+        if (filter == null) {
+            return Specification.where(null);
+        }
+        return Specification.where(hasStatus(filter.getStatus()))
+                .and(hasPriority(filter.getPriority()))
+                .and(hasAssignee(filter.getAssignee()))
+                .and(createdBetween(filter.getCreatedFrom(), filter.getCreatedTo()))
+                .and(resolvedBetween(filter.getResolvedFrom(), filter.getResolvedTo()));
+    }
+
+    /**
+     * Restrict to incidents with the given status.
+     */
+    public static Specification<Incident> hasStatus(Status status) {
+        return status == null ? null
+                : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Restrict to incidents with the given priority.
+     */
+    public static Specification<Incident> hasPriority(Priority priority) {
+        return priority == null ? null
+                : (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * Restrict to incidents assigned to the given person.
+     */
+    public static Specification<Incident> hasAssignee(String assignee) {
+        return assignee == null ? null
+                : (root, query, cb) -> cb.equal(root.get("assignee"), assignee);
+    }
+
+    /**
+     * Restrict to incidents created in [from, to).
+     */
+    public static Specification<Incident> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    /**
+     * Restrict to incidents resolved in [from, to).
+     */
+    public static Specification<Incident> resolvedBetween(LocalDateTime from, LocalDateTime to) {
+        return between("resolvedAt", from, to);
+    }
+
+    /**
+     * Restrict to incidents strictly after the cursor in (createdAt, id) order.
+     */
+    public static Specification<Incident> after(IncidentCursor cursor, Sort.Direction direction) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> direction == Sort.Direction.ASC
+                ? cb.or(cb.greaterThan(root.get("createdAt"), cursor.createdAt()),
+                        cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                               cb.greaterThan(root.get("id"), cursor.id())))
+                : cb.or(cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                        cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                               cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    private static Specification<Incident> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        Specification<Incident> lower = from == null ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), from);
+        Specification<Incident> upper = to == null ? null
+                : (root, query, cb) -> cb.lessThan(root.get(attribute), to);
+        return Specification.where(lower).and(upper);
+    }
+}
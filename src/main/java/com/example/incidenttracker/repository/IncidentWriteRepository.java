@@ -0,0 +1,68 @@
+package com.example.incidenttracker.repository;
+
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Status;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Single-statement writes that hand back the row as it was before the write.
+ * Callers get the state the in-memory views need to adjust without loading
+ * the incident first; the returned incidents are detached.
+ */
+public interface IncidentWriteRepository {
+
+    /**
+     * Delete an incident by id.
+     *
+     * @param id the incident id
+     * @return the deleted incident, or empty if there was none
+     */
+    Optional<Incident> deleteByIdReturning(Long id);
+
+    /**
+     * Set the status and modification time of an incident. When the status
+     * is RESOLVED, resolvedAt is set to {@code now} unless it is already set.
+     *
+     * @param id the incident id
+     * @param status the new status
+     * @param now the modification time
+     * @return the incident as it was before the update, or empty if there was none
+     */
+    Optional<Incident> updateStatusReturningPrevious(Long id, Status status, LocalDateTime now);
+
+    /**
+     * Set the status of an incident only if it currently has the expected one,
+     * as a conditional UPDATE; otherwise nothing is written and nothing locked
+     * beyond the statement. resolvedAt and updatedAt are set as in
+     * {@link #updateStatusReturningPrevious}.
+     *
+     * @param id the incident id
+     * @param expectedStatus the status the incident must have
+     * @param status the new status
+     * @param now the modification time
+     * @return the incident as it was before the update, or empty if it does not
+     *         exist or does not have the expected status
+     */
+    Optional<Incident> compareAndSetStatus(Long id, Status expectedStatus, Status status, LocalDateTime now);
+
+    /**
+     * Set the status of every selected incident that does not have it yet, in one
+     * statement that also returns what each updated row held before. resolvedAt and
+     * updatedAt are set as in {@link #updateStatusReturningPrevious}. Only the
+     * attributes the in-memory views are keyed on are read back, not whole rows.
+     *
+     * @param ids only these incidents, or null for no restriction by id
+     * @param filter only incidents matching it, or null for no restriction by criteria
+     * @param status the new status
+     * @param now the modification time
+     * @return the previous state of each updated incident, by id
+     */
+    Map<Long, IncidentState> updateStatusesReturningPrevious(Collection<Long> ids, IncidentFilter filter,
+                                                             Status status, LocalDateTime now);
+}
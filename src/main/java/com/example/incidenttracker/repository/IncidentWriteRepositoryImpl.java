@@ -0,0 +1,196 @@
+package com.example.incidenttracker.repository;
+
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Native implementation of {@link IncidentWriteRepository}, picked up
+ * by Spring Data as a fragment of {@link IncidentRepository}.
+ *
+ * PostgreSQL returns the old row through RETURNING; for an UPDATE the row is
+ * first locked and read in a FROM subquery, since RETURNING only sees new values.
+ * H2 reads the old row from an OLD TABLE data change delta table.
+ * Status updates increment the optimistic-locking version like a Hibernate update.
+ * Bulk status updates read back only ids and IncidentState attributes.
+ *
+ * Like the {@code @Modifying(clearAutomatically = true)} updates, the
+ * persistence context is flushed before and cleared around the statement,
+ * so no managed incident keeps the state it replaced.
+ */
+@RequiredArgsConstructor
+@Transactional
+class IncidentWriteRepositoryImpl implements IncidentWriteRepository {
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "title", "description", "priority", "status", "assignee",
+            "created_at", "updated_at", "resolved_at", "version");
+
+    // What a bulk update reads back: the id and the IncidentState attributes
+    private static final List<String> STATE_COLUMNS = List.of("id", "status", "priority", "assignee");
+
+    // Qualified, as the PostgreSQL update also has the previous row in scope
+    private static final String SET_STATUS = "status = :status, updated_at = :now, "
+            + "resolved_at = CASE WHEN :resolve THEN COALESCE(incidents.resolved_at, :now) "
+            + "ELSE incidents.resolved_at END, version = incidents.version + 1 ";
+
+    private static final String BY_ID = "id = :id";
+
+    private static final String BY_ID_AND_STATUS = "id = :id AND status = :expected";
+
+    static final String POSTGRES_DELETE = "DELETE FROM incidents WHERE id = :id RETURNING " + columns(COLUMNS, "");
+
+    static final String POSTGRES_UPDATE_STATUS = postgresUpdateStatus(BY_ID, COLUMNS);
+
+    static final String POSTGRES_COMPARE_AND_SET_STATUS = postgresUpdateStatus(BY_ID_AND_STATUS, COLUMNS);
+
+    static final String H2_DELETE = "SELECT " + columns(COLUMNS, "")
+            + " FROM OLD TABLE (DELETE FROM incidents WHERE id = :id)";
+
+    static final String H2_UPDATE_STATUS = h2UpdateStatus(BY_ID, COLUMNS);
+
+    static final String H2_COMPARE_AND_SET_STATUS = h2UpdateStatus(BY_ID_AND_STATUS, COLUMNS);
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Incident> deleteByIdReturning(Long id) {
+        Query query = entityManager.createNativeQuery(isPostgres() ? POSTGRES_DELETE : H2_DELETE, Incident.class)
+                .setParameter("id", id);
+        return single(query);
+    }
+
+    @Override
+    public Optional<Incident> updateStatusReturningPrevious(Long id, Status status, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery(
+                        isPostgres() ? POSTGRES_UPDATE_STATUS : H2_UPDATE_STATUS, Incident.class)
+                .setParameter("id", id);
+        return single(setStatusParameters(query, status, now));
+    }
+
+    @Override
+    public Optional<Incident> compareAndSetStatus(Long id, Status expectedStatus, Status status, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery(
+                        isPostgres() ? POSTGRES_COMPARE_AND_SET_STATUS : H2_COMPARE_AND_SET_STATUS, Incident.class)
+                .setParameter("id", id)
+                .setParameter("expected", expectedStatus.name());
+        return single(setStatusParameters(query, status, now));
+    }
+
+    @Override
+    public Map<Long, IncidentState> updateStatusesReturningPrevious(Collection<Long> ids, IncidentFilter filter,
+                                                                    Status status, LocalDateTime now) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String condition = selection(ids, filter, parameters);
+        Query query = entityManager.createNativeQuery(isPostgres()
+                ? postgresUpdateStatus(condition, STATE_COLUMNS)
+                : h2UpdateStatus(condition, STATE_COLUMNS));
+        parameters.forEach(query::setParameter);
+
+        Map<Long, IncidentState> previous = new LinkedHashMap<>();
+        for (Object row : rows(setStatusParameters(query, status, now))) {
+            Object[] columns = (Object[]) row;
+            previous.put(((Number) columns[0]).longValue(), new IncidentState(
+                    Status.valueOf(columns[1].toString()),
+                    Priority.valueOf(columns[2].toString()),
+                    (String) columns[3]));
+        }
+        return previous;
+    }
+
+    private static Query setStatusParameters(Query query, Status status, LocalDateTime now) {
+        return query.setParameter("status", status.name())
+                .setParameter("now", now)
+                .setParameter("resolve", status == Status.RESOLVED);
+    }
+
+    /**
+     * WHERE condition for the ids and filter criteria of a bulk update, collecting
+     * their parameters. Rows already in the target status are never selected, so
+     * their version and updatedAt stay as they are.
+     */
+    private static String selection(Collection<Long> ids, IncidentFilter filter, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (ids != null) {
+            conditions.add("id IN (:ids)");
+            parameters.put("ids", ids);
+        }
+        if (filter != null) {
+            condition(conditions, parameters, "status = :filterStatus", "filterStatus",
+                      filter.getStatus() == null ? null : filter.getStatus().name());
+            condition(conditions, parameters, "priority = :filterPriority", "filterPriority",
+                      filter.getPriority() == null ? null : filter.getPriority().name());
+            condition(conditions, parameters, "assignee = :assignee", "assignee", filter.getAssignee());
+            condition(conditions, parameters, "created_at >= :createdFrom", "createdFrom", filter.getCreatedFrom());
+            condition(conditions, parameters, "created_at < :createdTo", "createdTo", filter.getCreatedTo());
+            condition(conditions, parameters, "resolved_at >= :resolvedFrom", "resolvedFrom", filter.getResolvedFrom());
+            condition(conditions, parameters, "resolved_at < :resolvedTo", "resolvedTo", filter.getResolvedTo());
+        }
+        conditions.add("status <> :status");
+        return String.join(" AND ", conditions);
+    }
+
+    private static void condition(List<String> conditions, Map<String, Object> parameters,
+                                  String condition, String name, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            parameters.put(name, value);
+        }
+    }
+
+    private Optional<Incident> single(Query query) {
+        return rows(query).stream().findFirst().map(Incident.class::cast);
+    }
+
+    private List<?> rows(Query query) {
+        entityManager.flush();
+        entityManager.clear();
+        List<?> rows = query.getResultList();
+        // Old rows may have been loaded as managed entities; detach them so changes to them are never flushed
+        entityManager.clear();
+        return rows;
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * In the FROM subquery, FOR UPDATE waits for a concurrent writer of the row and
+     * then re-checks the condition against its committed version, so a
+     * compare-and-set never overwrites a status it did not see.
+     */
+    private static String postgresUpdateStatus(String condition, List<String> returned) {
+        return "UPDATE incidents SET " + SET_STATUS
+                + "FROM (SELECT " + columns(returned, "") + " FROM incidents WHERE " + condition
+                + " FOR UPDATE) previous "
+                + "WHERE incidents.id = previous.id RETURNING " + columns(returned, "previous.");
+    }
+
+    private static String h2UpdateStatus(String condition, List<String> returned) {
+        return "SELECT " + columns(returned, "")
+                + " FROM OLD TABLE (UPDATE incidents SET " + SET_STATUS + "WHERE " + condition + ")";
+    }
+
+    private static String columns(List<String> columns, String prefix) {
+        return columns.stream().map(column -> prefix + column).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.incidenttracker.search;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search from an inverted index held in the JVM, for databases
+ * without full-text search (H2 in tests).
+ *
+ * Terms are runs of letters and digits, lower-cased; there is no stemming or
+ * stop-word list. A query matches incidents containing every one of its terms,
+ * found by walking the postings of its rarest term. Hits are scored by
+ * tf-idf with title occurrences weighted above description occurrences, and
+ * only the top ones are read back from the database, so their status and other
+ * fields are current. Highlights cover the whole title and description, HTML-escaped.
+ *
+ * The index is built when the application starts and updated after each
+ * committed create, update and delete made through the service. A rebuild
+ * fills a fresh index and swaps it in; rebuilds take turns on a
+ * {@link ReentrantLock}, not the monitor, so one streaming the table on a
+ * virtual thread does not pin its carrier. Updates that commit while a rebuild
+ * is streaming go to both indexes, and the stream only fills in incidents they
+ * have not touched, so neither the swap nor an older streamed row undoes them.
+ */
+@Component
+@ConditionalOnProperty(name = "incident-tracker.search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryIncidentSearch implements IncidentSearch {
+
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    /**
+     * Occurrences of a term in the title count this many times more than in the description.
+     */
+    static final int TITLE_WEIGHT = 4;
+
+    private final IncidentRepository incidentRepository;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Index index = new Index(false);
+
+    /**
+     * The index a rebuild is filling, or null when no rebuild is running.
+     */
+    private volatile Index loading;
+
+    @Override
+    public List<IncidentSearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(terms(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = index.score(terms, limit);
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+        return incidentRepository.findResponsesByIdIn(scores.keySet()).stream()
+                .map(incident -> IncidentSearchHit.builder()
+                        .incident(incident)
+                        .rank(scores.get(incident.getId()))
+                        .titleHighlight(highlight(incident.getTitle(), terms))
+                        .descriptionHighlight(highlight(incident.getDescription(), terms))
+                        .build())
+                .sorted(Comparator.comparingDouble(IncidentSearchHit::getRank).reversed()
+                        .thenComparing(hit -> hit.getIncident().getId()))
+                .toList();
+    }
+
+    @Override
+    public void record(IncidentResponse incident) {
+        Map<String, Integer> frequencies = frequencies(incident);
+        AfterCommit.run(() -> write(target -> target.put(incident.getId(), frequencies)));
+    }
+
+    @Override
+    public void remove(Long id) {
+        AfterCommit.run(() -> write(target -> target.remove(id)));
+    }
+
+    /**
+     * Apply a committed update to the current index and to the one being rebuilt, if any.
+     * The rebuild field is read first: if it reads null, either the swap has happened
+     * or the rebuild's stream has yet to open and will see this commit.
+     */
+    private void write(Consumer<Index> update) {
+        Index rebuilding = loading;
+        Index current = index;
+        update.accept(current);
+        if (rebuilding != null && rebuilding != current) {
+            update.accept(rebuilding);
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Index fresh = new Index(true);
+            // published before the stream opens, so every update committed after its snapshot reaches fresh
+            loading = fresh;
+            try (Stream<IncidentResponse> incidents = incidentRepository.streamResponsesForExport(null, null)) {
+                incidents.forEach(incident -> fresh.load(incident.getId(), frequencies(incident)));
+                index = fresh;
+            } finally {
+                loading = null;
+                fresh.loaded();
+            }
+            log.debug("Rebuilt search index with {} incidents", fresh.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Weighted number of occurrences of each term in an incident's title and description.
+     */
+    static Map<String, Integer> frequencies(IncidentResponse incident) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        terms(incident.getTitle()).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        terms(incident.getDescription()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    static List<String> terms(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        Matcher matcher = TERM.matcher(text);
+        while (matcher.find()) {
+            terms.add(matcher.group().toLowerCase(Locale.ROOT));
+        }
+        return terms;
+    }
+
+    /**
+     * HTML-escape the text and wrap every occurrence of the terms in highlight tags.
+     */
+    static String highlight(String text, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder highlighted = new StringBuilder(text.length() + 32);
+        Matcher matcher = TERM.matcher(text);
+        int end = 0;
+        while (matcher.find()) {
+            if (terms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                highlighted.append(escape(text.substring(end, matcher.start())))
+                        .append(HIGHLIGHT_START).append(escape(matcher.group())).append(HIGHLIGHT_END);
+                end = matcher.end();
+            }
+        }
+        return highlighted.append(escape(text.substring(end))).toString();
+    }
+
+    private static String escape(String text) {
+        return HtmlUtils.htmlEscape(text, "UTF-8");
+    }
+
+    /**
+     * Postings (incident id to weighted term frequency) per term, plus the terms
+     * of each incident so an update or delete can find its postings. Each id is
+     * updated atomically through {@link ConcurrentHashMap#compute}. While a rebuild
+     * is loading it, deleted ids are remembered so a streamed row cannot bring them back.
+     */
+    private static final class Index {
+
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+        private volatile Set<Long> removed;
+
+        Index(boolean loading) {
+            this.removed = loading ? ConcurrentHashMap.newKeySet() : null;
+        }
+
+        /**
+         * Add a streamed row unless an update or delete since the stream's snapshot got there first.
+         */
+        void load(Long id, Map<String, Integer> frequencies) {
+            // checked inside computeIfAbsent, so a delete landing after it still finds the document
+            documents.computeIfAbsent(id, key -> removed.contains(id) ? null : post(id, frequencies));
+        }
+
+        void loaded() {
+            removed = null;
+        }
+
+        void put(Long id, Map<String, Integer> frequencies) {
+            documents.compute(id, (key, previous) -> {
+                if (previous != null) {
+                    unpost(id, previous);
+                }
+                return post(id, frequencies);
+            });
+        }
+
+        void remove(Long id) {
+            Set<Long> tombstones = removed;
+            if (tombstones != null) {
+                tombstones.add(id);
+            }
+            documents.computeIfPresent(id, (key, previous) -> {
+                unpost(id, previous);
+                return null;
+            });
+        }
+
+        private Set<String> post(Long id, Map<String, Integer> frequencies) {
+            // compute rather than computeIfAbsent, so a concurrent unpost cannot drop the list being added to
+            frequencies.forEach((term, frequency) -> postings.compute(term, (t, ids) -> {
+                Map<Long, Integer> updated = ids != null ? ids : new ConcurrentHashMap<>();
+                updated.put(id, frequency);
+                return updated;
+            }));
+            return Set.copyOf(frequencies.keySet());
+        }
+
+        private void unpost(Long id, Set<String> terms) {
+            for (String term : terms) {
+                postings.computeIfPresent(term, (t, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        /**
+         * The best {@code limit} incidents containing every term, with their scores.
+         */
+        Map<Long, Double> score(Set<String> terms, int limit) {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> ids = postings.get(term);
+                if (ids == null) {
+                    return Map.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int total = Math.max(1, documents.size());
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1 + (double) total / Math.max(1, lists.get(i).size()));
+            }
+
+            PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(
+                    Map.Entry.<Long, Double>comparingByValue()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())));
+            candidates:
+            for (Map.Entry<Long, Integer> posting : lists.get(0).entrySet()) {
+                double score = posting.getValue() * idf[0];
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer frequency = lists.get(i).get(posting.getKey());
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += frequency * idf[i];
+                }
+                best.add(Map.entry(posting.getKey(), score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            return best.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+
+        int size() {
+            return documents.size();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.incidenttracker.search;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+
+import java.util.List;
+
+/**
+ * Full-text search over incident titles and descriptions.
+ *
+ * The engine is chosen with incident-tracker.search.engine: {@code postgres}
+ * (the default) queries the generated tsvector column, {@code memory} keeps an
+ * inverted index in the JVM for databases without full-text search, such as
+ * H2 in tests. Engines that index in the database ignore the write hooks.
+ */
+public interface IncidentSearch {
+
+    /**
+     * Opening and closing tags around matched terms in highlights. The rest of a
+     * highlight is HTML-escaped, so these are the only markup it contains.
+     */
+    String HIGHLIGHT_START = "<mark>";
+    String HIGHLIGHT_END = "</mark>";
+
+    /**
+     * Find incidents whose title or description contains every term of the query,
+     * most relevant first.
+     *
+     * @param query the search terms
+     * @param limit the maximum number of hits
+     * @return the hits, best first
+     */
+    List<IncidentSearchHit> search(String query, int limit);
+
+    /**
+     * Index the committed text of a created or updated incident.
+     *
+     * @param incident the incident as saved
+     */
+    default void record(IncidentResponse incident) {
+    }
+
+    /**
+     * Drop a deleted incident from the index once the delete commits.
+     *
+     * @param id the deleted incident
+     */
+    default void remove(Long id) {
+    }
+
+    /**
+     * Re-read every incident, picking up rows written outside the service.
+     */
+    default void rebuild() {
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.incidenttracker.search;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Full-text search on PostgreSQL, backed by the generated search_vector column
+ * and its GIN index (V4 and V5 migrations).
+ *
+ * The query is parsed with websearch_to_tsquery, so clients can use quoted
+ * phrases, "or" and a leading "-" to exclude a term. Matching rows are ranked
+ * with ts_rank_cd, where title terms outweigh description terms. ts_headline
+ * re-parses the text, so it only runs on the rows that make the limit.
+ *
+ * ts_headline does not escape the text it returns. It marks matches with
+ * control characters instead, which are first stripped from the text, and the
+ * headline is HTML-escaped in Java before they are replaced by the tags.
+ */
+@Component
+@ConditionalOnProperty(name = "incident-tracker.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresIncidentSearch implements IncidentSearch {
+
+    private static final String START_SEL = "\u0002";
+    private static final String STOP_SEL = "\u0003";
+
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=\"" + START_SEL + "\", StopSel=\"" + STOP_SEL + "\"";
+
+    // Rank normalization 32 maps ranks to rank / (rank + 1), between 0 and 1
+    static final String SEARCH_SQL = "SELECT id, title, description, priority, status, assignee, "
+            + "created_at, updated_at, resolved_at, rank, "
+            + "ts_headline('english', " + withoutSelectors("title") + ", query, 'HighlightAll=true, "
+            + HEADLINE_OPTIONS + "') AS title_highlight, "
+            + "ts_headline('english', " + withoutSelectors("description") + ", query, 'MaxFragments=2, "
+            + HEADLINE_OPTIONS + "') AS description_highlight "
+            + "FROM (SELECT i.id, i.title, i.description, i.priority, i.status, i.assignee, "
+            + "i.created_at, i.updated_at, i.resolved_at, q.query, ts_rank_cd(i.search_vector, q.query, 32) AS rank "
+            + "FROM incidents i, websearch_to_tsquery('english', ?) AS q(query) "
+            + "WHERE i.search_vector @@ q.query "
+            + "ORDER BY rank DESC, i.id LIMIT ?) hits "
+            + "ORDER BY rank DESC, id";
+
+    private static final RowMapper<IncidentSearchHit> HIT_MAPPER = (rs, rowNum) -> IncidentSearchHit.builder()
+            .incident(IncidentResponse.builder()
+                    .id(rs.getLong("id"))
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .priority(Priority.valueOf(rs.getString("priority")))
+                    .status(Status.valueOf(rs.getString("status")))
+                    .assignee(rs.getString("assignee"))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                    .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                    .resolvedAt(toLocalDateTime(rs.getTimestamp("resolved_at")))
+                    .build())
+            .rank(rs.getDouble("rank"))
+            .titleHighlight(toHtml(rs.getString("title_highlight")))
+            .descriptionHighlight(toHtml(rs.getString("description_highlight")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<IncidentSearchHit> search(String query, int limit) {
+        return jdbcTemplate.query(SEARCH_SQL, HIT_MAPPER, query, limit);
+    }
+
+    /**
+     * HTML-escape a headline and turn its match selectors into highlight tags.
+     */
+    static String toHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline, "UTF-8")
+                .replace(START_SEL, HIGHLIGHT_START)
+                .replace(STOP_SEL, HIGHLIGHT_END);
+    }
+
+    private static String withoutSelectors(String column) {
+        return "replace(replace(" + column + ", chr(2), ''), chr(3), '')";
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
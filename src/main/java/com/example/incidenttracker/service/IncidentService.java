@@ -1,11 +1,25 @@
 package com.example.incidenttracker.service;
 
+import com.example.incidenttracker.dto.BulkCreateResult;
+import com.example.incidenttracker.dto.BulkStatusUpdateRequest;
+import com.example.incidenttracker.dto.BulkStatusUpdateResponse;
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.dto.IncidentFingerprint;
 import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
 import com.example.incidenttracker.model.Incident;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 /**
  * Service interface for incident management.
@@ -13,6 +27,21 @@ import java.util.List;
  */
 public interface IncidentService {
 
+    /**
+     * Page size used when the client does not request one.
+     */
+    int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Largest page size a client may request; larger values are capped.
+     */
+    int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Largest number of incidents accepted by one bulk create.
+     */
+    int MAX_BULK_SIZE = 1000;
+
     /**
      * Retrieve all incidents.
      *
@@ -20,6 +49,84 @@ public interface IncidentService {
      */
     List<Incident> getAllIncidents();
 
+    /**
+     * Retrieve all incidents matching the filter, in a single query.
+     *
+     * @param filter the filter criteria and sort direction
+     * @return list of matching incidents
+     */
+    List<Incident> getIncidents(IncidentFilter filter);
+
+    /**
+     * Retrieve the first incidents matching the filter, reading only the given attributes.
+     * Runs a projection query, so columns that were not asked for (such as the
+     * description) are neither transferred nor held in memory. The returned
+     * incidents are detached and only the requested attributes and the id are
+     * populated; they must not be saved. Projected results are not cached.
+     *
+     * @param filter the filter criteria and sort direction
+     * @param attributes names of the Incident attributes to read, or null for all of them;
+     *                   names that are not incident columns are ignored
+     * @param limit the maximum number of incidents to return
+     * @return list of matching incidents, in the filter's order
+     */
+    List<Incident> getIncidents(IncidentFilter filter, Set<String> attributes, int limit);
+
+    /**
+     * Retrieve one page of incidents using keyset (cursor) pagination.
+     * Incidents are ordered by createdAt in the filter's direction, with id as
+     * tie-breaker, so the cost of a page does not depend on how deep the client has paged.
+     *
+     * @param filter the filter criteria and sort direction
+     * @param cursor opaque cursor returned with the previous page, or null for the first page
+     * @param limit requested page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return the page of incidents and the cursor of the next page
+     * @throws com.example.incidenttracker.exception.ValidationException if the cursor or limit is invalid
+     */
+    CursorPage<Incident> getIncidentPage(IncidentFilter filter, String cursor, int limit);
+
+    /**
+     * Retrieve one page of incidents as response DTOs, in the same order and with
+     * the same cursors as {@link #getIncidentPage}. The rows are selected straight
+     * into {@link IncidentResponse} and never become managed entities.
+     *
+     * @param filter the filter criteria and sort direction
+     * @param cursor opaque cursor returned with the previous page, or null for the first page
+     * @param limit requested page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return the page of incidents and the cursor of the next page
+     * @throws com.example.incidenttracker.exception.ValidationException if the cursor or limit is invalid
+     */
+    CursorPage<IncidentResponse> getIncidentResponsePage(IncidentFilter filter, String cursor, int limit);
+
+    /**
+     * Count incidents matching the filter.
+     *
+     * @param filter the filter criteria
+     * @return the number of matching incidents
+     */
+    long countIncidents(IncidentFilter filter);
+
+    /**
+     * Fingerprint the incidents matching the filter with one COUNT/MAX(updatedAt)
+     * aggregate, without loading any of them. Used to answer conditional list requests.
+     *
+     * @param filter the filter criteria
+     * @return the number of matching incidents and their latest modification time
+     */
+    IncidentFingerprint getIncidentsFingerprint(IncidentFilter filter);
+
+    /**
+     * Stream incidents matching the optional filters to a consumer, one at a time.
+     * Rows are read as response DTOs rather than entities, so memory use stays
+     * flat regardless of how many rows are exported.
+     *
+     * @param status optional status filter
+     * @param priority optional priority filter
+     * @param consumer receives each incident in id order
+     * @return the number of incidents exported
+     */
+    long exportIncidents(Status status, Priority priority, Consumer<IncidentResponse> consumer);
+
     /**
      * Retrieve an incident by ID.
      *
@@ -29,6 +136,24 @@ public interface IncidentService {
      */
     Incident getIncidentById(Long id);
 
+    /**
+     * Fingerprint an incident from the cache, or by reading only its updatedAt column.
+     *
+     * @param id the incident ID
+     * @return the incident's fingerprint
+     * @throws com.example.incidenttracker.exception.ResourceNotFoundException if not found
+     */
+    IncidentFingerprint getIncidentFingerprint(Long id);
+
+    /**
+     * Retrieve several incidents by ID, loading the ones not already cached
+     * with a single IN query. IDs that do not exist are absent from the result.
+     *
+     * @param ids the incident IDs
+     * @return the found incidents keyed by ID
+     */
+    Map<Long, Incident> getIncidentsByIds(Collection<Long> ids);
+
     /**
      * Create a new incident.
      *
@@ -37,6 +162,17 @@ public interface IncidentService {
      */
     Incident createIncident(IncidentRequest request);
 
+    /**
+     * Create many incidents in one transaction.
+     * Each item is validated on its own; invalid items are reported and skipped,
+     * valid ones are inserted together using JDBC batching.
+     *
+     * @param requests the incident requests, at most {@link #MAX_BULK_SIZE}
+     * @return per-item results in input order
+     * @throws com.example.incidenttracker.exception.ValidationException if the batch is empty or too large
+     */
+    BulkCreateResult createIncidents(List<IncidentRequest> requests);
+
     /**
      * Update an existing incident.
      *
@@ -48,7 +184,36 @@ public interface IncidentService {
     Incident updateIncident(Long id, IncidentRequest request);
 
     /**
-     * Update only the status of an incident.
+     * Update an existing incident if it is still at the given version.
+     *
+     * @param id the incident ID
+     * @param request the update request DTO
+     * @param expectedVersion the version the client read, or null to skip the check
+     * @return the updated incident, with its new version
+     * @throws com.example.incidenttracker.exception.ResourceNotFoundException if not found
+     * @throws com.example.incidenttracker.exception.ConflictException if the incident is at another version
+     */
+    Incident updateIncident(Long id, IncidentRequest request, Long expectedVersion);
+
+    /**
+     * Apply a partial update to an incident.
+     * The patch receives the current incident as a request and returns the
+     * desired one, which is validated like a full update; only the columns
+     * that end up different are written.
+     *
+     * @param id the incident ID
+     * @param patch turns the current request into the updated one
+     * @param expectedVersion the version the client read, or null to skip the check
+     * @return the updated incident, with its new version
+     * @throws com.example.incidenttracker.exception.ResourceNotFoundException if not found
+     * @throws com.example.incidenttracker.exception.ValidationException if the patched incident is invalid
+     * @throws com.example.incidenttracker.exception.ConflictException if the incident is at another version
+     */
+    Incident patchIncident(Long id, UnaryOperator<IncidentRequest> patch, Long expectedVersion);
+
+    /**
+     * Update only the status of an incident, in one statement that also
+     * returns the state it replaced.
      *
      * @param id the incident ID
      * @param status the new status
@@ -58,7 +223,35 @@ public interface IncidentService {
     Incident updateStatus(Long id, Status status);
 
     /**
-     * Delete an incident.
+     * Move an incident from one status to another, compare-and-set style:
+     * a single conditional UPDATE that only applies while the incident still
+     * has the expected status, so concurrent transitions never overwrite each
+     * other and no row lock is held between the caller's read and write.
+     *
+     * @param id the incident ID
+     * @param expectedStatus the status the incident must currently have
+     * @param newStatus the status to move it to
+     * @return the updated incident
+     * @throws com.example.incidenttracker.exception.ResourceNotFoundException if not found
+     * @throws com.example.incidenttracker.exception.ConflictException if the incident has another status
+     */
+    Incident transitionStatus(Long id, Status expectedStatus, Status newStatus);
+
+    /**
+     * Move many incidents to one status with a single UPDATE statement, which
+     * also returns the previous state of each row it changed.
+     * Incidents are selected either by id (at most {@link #MAX_BULK_SIZE}) or by a
+     * filter with at least one criterion; resolvedAt follows the same rules as
+     * {@link #updateStatus(Long, Status)}.
+     *
+     * @param request the target status and the selection
+     * @return the number of incidents updated and the requested ids that were skipped
+     * @throws com.example.incidenttracker.exception.ValidationException if the selection is missing or ambiguous
+     */
+    BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request);
+
+    /**
+     * Delete an incident with a single DELETE by id.
      *
      * @param id the incident ID
      * @throws com.example.incidenttracker.exception.ResourceNotFoundException if not found
@@ -96,4 +289,36 @@ public interface IncidentService {
      * @return list of overdue incidents
      */
     List<Incident> getOverdueIncidents(int daysOld);
+
+    /**
+     * Read incidents that have been open/in-progress for more than N days from the
+     * in-memory overdue set, without querying the database. The set is kept up to
+     * date by a background scan, so it may lag writes made outside this service.
+     *
+     * @param daysOld the number of days
+     * @param priority only incidents of this priority, or null for all
+     * @return overdue incidents, oldest first
+     * @throws com.example.incidenttracker.exception.ValidationException if daysOld is negative
+     */
+    List<IncidentResponse> getOverdueIncidents(int daysOld, Priority priority);
+
+    /**
+     * Full-text search over incident titles and descriptions. Incidents must
+     * contain every term of the query; the best matches come first, with the
+     * matched terms highlighted.
+     *
+     * @param query the search terms
+     * @param limit requested number of hits, capped at {@link #MAX_PAGE_SIZE}
+     * @return the hits, most relevant first
+     * @throws com.example.incidenttracker.exception.ValidationException if the query is blank or the limit is invalid
+     */
+    List<IncidentSearchHit> searchIncidents(String query, int limit);
+
+    /**
+     * Retrieve incident counts per status, priority and assignee.
+     * Served from in-memory counters; no database query is issued.
+     *
+     * @return the current counts
+     */
+    IncidentStatsResponse getIncidentStats();
 }
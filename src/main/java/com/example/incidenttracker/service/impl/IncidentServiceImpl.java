@@ -1,44 +1,306 @@
 package com.example.incidenttracker.service.impl;
 
+import com.example.incidenttracker.cache.IncidentCache;
+import com.example.incidenttracker.cache.IncidentCache.QueryKey;
+import com.example.incidenttracker.dto.BulkCreateResult;
+import com.example.incidenttracker.dto.BulkCreateResult.ItemResult;
+import com.example.incidenttracker.dto.BulkStatusUpdateRequest;
+import com.example.incidenttracker.dto.BulkStatusUpdateResponse;
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.IncidentCursor;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.dto.IncidentFingerprint;
 import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
+import com.example.incidenttracker.exception.ConflictException;
 import com.example.incidenttracker.exception.ResourceNotFoundException;
+import com.example.incidenttracker.exception.ValidationException;
 import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
 import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.repository.IncidentSpecifications;
+import com.example.incidenttracker.search.IncidentSearch;
 import com.example.incidenttracker.service.IncidentService;
+import com.example.incidenttracker.stats.IncidentCounters;
+import com.example.incidenttracker.stats.OverdueIncidents;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * Implementation of IncidentService.
  * Provides business logic for incident management with proper transaction handling.
+ *
+ * Lookups are read through {@link IncidentCache}; cached reads join an existing
+ * transaction but do not start one, so a cache hit never touches the connection pool.
+ * Every write invalidates the cache entries it may have made stale and
+ * adjusts the live {@link IncidentCounters}, {@link OverdueIncidents} and {@link IncidentSearch} index.
+ *
+ * Each public method is timed as incident.service, tagged with the method name.
  */
 @Service
+@Timed(value = "incident.service", description = "Incident service method latency")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class IncidentServiceImpl implements IncidentService {
 
+    /**
+     * Incident attributes that {@link #getIncidents(IncidentFilter, Set)} can project, in select order.
+     */
+    private static final List<String> PROJECTABLE_ATTRIBUTES = List.of(
+            "id", "title", "description", "priority", "status", "assignee",
+            "createdAt", "updatedAt", "resolvedAt");
+
     private final IncidentRepository incidentRepository;
+    private final EntityManager entityManager;
+    private final IncidentCache incidentCache;
+    private final IncidentCounters incidentCounters;
+    private final OverdueIncidents overdueIncidents;
+    private final IncidentSearch incidentSearch;
+    private final Validator validator;
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Incident> getAllIncidents() {
         log.debug("Fetching all incidents");
-        return incidentRepository.findAll();
+        return cachedList(QueryKey.list("all", IncidentFilter.none()), incidentRepository::findAll);
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<Incident> getIncidents(IncidentFilter filter) {
+        log.debug("Fetching incidents matching {}", filter);
+        IncidentFilter key = filter != null ? filter : IncidentFilter.none();
+        return cachedList(QueryKey.list("filter", key), () ->
+                incidentRepository.findAll(IncidentSpecifications.matching(key), sortFor(key)));
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<Incident> getIncidents(IncidentFilter filter, Set<String> attributes, int limit) {
+        if (limit < 1) {
+            throw new ValidationException("Limit must be at least 1");
+        }
+        List<String> columns = attributes == null ? PROJECTABLE_ATTRIBUTES
+                : PROJECTABLE_ATTRIBUTES.stream().filter(attributes::contains).toList();
+        IncidentFilter key = filter != null ? filter : IncidentFilter.none();
+        if (columns.size() == PROJECTABLE_ATTRIBUTES.size()) {
+            log.debug("Fetching up to {} incidents matching {}", limit, key);
+            return cachedList(new QueryKey("filter", key, null, limit), () ->
+                    incidentRepository.findBy(IncidentSpecifications.matching(key),
+                            query -> query.sortBy(sortFor(key)).limit(limit).all()));
+        }
+
+        log.debug("Fetching {} of up to {} incidents matching {}", columns, limit, key);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Incident> root = query.from(Incident.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        for (String column : columns) {
+            if (!"id".equals(column)) {
+                selections.add(root.get(column).alias(column));
+            }
+        }
+        Predicate predicate = IncidentSpecifications.matching(key).toPredicate(root, query, cb);
+        query.multiselect(selections)
+                .orderBy(QueryUtils.toOrders(sortFor(key), root, cb));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultStream()
+                .map(tuple -> toPartialIncident(tuple, selections))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CursorPage<Incident> getIncidentPage(IncidentFilter filter, String cursor, int limit) {
+        if (limit < 1) {
+            throw new ValidationException("Limit must be at least 1");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        QueryKey key = new QueryKey("page", filter != null ? filter : IncidentFilter.none(), cursor, pageSize);
+        CursorPage<Incident> cached = incidentCache.getQuery(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = incidentCache.queryGeneration(key);
+
+        ScrollPosition position = cursor == null || cursor.isBlank()
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(IncidentCursor.decode(cursor).toKeys());
+
+        log.debug("Fetching incident page matching {}, limit={}", filter, pageSize);
+        Window<Incident> window = incidentRepository.findBy(IncidentSpecifications.matching(filter),
+                query -> query.sortBy(sortFor(filter)).limit(pageSize).scroll(position));
+
+        List<Incident> items = window.getContent();
+        String nextCursor = window.hasNext() && !items.isEmpty()
+                ? IncidentCursor.of(items.get(items.size() - 1)).encode()
+                : null;
+        CursorPage<Incident> page = new CursorPage<>(Collections.unmodifiableList(items), nextCursor);
+        incidentCache.putQuery(key, page, generation);
+        return page;
+    }
+
+    @Override
+    public CursorPage<IncidentResponse> getIncidentResponsePage(IncidentFilter filter, String cursor, int limit) {
+        if (limit < 1) {
+            throw new ValidationException("Limit must be at least 1");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        IncidentFilter effective = filter != null ? filter : IncidentFilter.none();
+        QueryKey key = new QueryKey("responsePage", effective, cursor, pageSize);
+        CursorPage<IncidentResponse> cached = incidentCache.getQuery(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = incidentCache.queryGeneration(key);
+
+        IncidentCursor after = cursor == null || cursor.isBlank() ? null : IncidentCursor.decode(cursor);
+        Sort sort = sortFor(effective);
+        Specification<Incident> spec = IncidentSpecifications.matching(effective)
+                .and(IncidentSpecifications.after(after, sort.getOrderFor("createdAt").getDirection()));
+
+        log.debug("Fetching incident response page matching {}, limit={}", effective, pageSize);
+        // One extra row tells us whether there is a next page without a count query
+        List<IncidentResponse> rows = incidentRepository.findResponses(spec, sort, pageSize + 1);
+
+        List<IncidentResponse> items = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        String nextCursor = rows.size() > pageSize
+                ? IncidentCursor.of(items.get(items.size() - 1)).encode()
+                : null;
+        CursorPage<IncidentResponse> page = new CursorPage<>(List.copyOf(items), nextCursor);
+        incidentCache.putQuery(key, page, generation);
+        return page;
+    }
+
+    @Override
+    public long countIncidents(IncidentFilter filter) {
+        return incidentRepository.count(IncidentSpecifications.matching(filter));
     }
 
     @Override
+    public IncidentFingerprint getIncidentsFingerprint(IncidentFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Incident> root = query.from(Incident.class);
+        query.multiselect(cb.count(root), cb.greatest(root.<LocalDateTime>get("updatedAt")));
+        Predicate predicate = IncidentSpecifications.matching(filter).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        return new IncidentFingerprint(result.get(0, Long.class), result.get(1, LocalDateTime.class));
+    }
+
+    @Override
+    public long exportIncidents(Status status, Priority priority, Consumer<IncidentResponse> consumer) {
+        log.info("Exporting incidents: status={}, priority={}", status, priority);
+
+        AtomicLong exported = new AtomicLong();
+        try (Stream<IncidentResponse> incidents = incidentRepository.streamResponsesForExport(status, priority)) {
+            incidents.forEach(incident -> {
+                consumer.accept(incident);
+                exported.incrementAndGet();
+            });
+        }
+
+        log.info("Exported {} incidents", exported.get());
+        return exported.get();
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Incident getIncidentById(Long id) {
         log.debug("Fetching incident with id: {}", id);
-        return incidentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                    "Incident not found with id: " + id));
+        Incident cached = incidentCache.getIncident(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = incidentCache.incidentGeneration(id);
+        Incident incident = findIncident(id);
+        incidentCache.putIncident(incident, generation);
+        return incident;
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public IncidentFingerprint getIncidentFingerprint(Long id) {
+        Incident cached = incidentCache.getIncident(id);
+        if (cached != null) {
+            return IncidentFingerprint.of(cached);
+        }
+        return incidentRepository.findFingerprintById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident not found with id: " + id));
+    }
+
+    @Override
+    public Map<Long, Incident> getIncidentsByIds(Collection<Long> ids) {
+        Map<Long, Incident> found = new HashMap<>();
+        // generation per missed id, taken before loading
+        Map<Long, Long> misses = new LinkedHashMap<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Incident cached = incidentCache.getIncident(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.put(id, incidentCache.incidentGeneration(id));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            log.debug("Fetching {} incidents by id ({} cached)", misses.size(), found.size());
+            for (Incident incident : incidentRepository.findAllById(List.copyOf(misses.keySet()))) {
+                incidentCache.putIncident(incident, misses.get(incident.getId()));
+                found.put(incident.getId(), incident);
+            }
+        }
+        return found;
     }
 
     @Override
@@ -46,39 +308,94 @@ public class IncidentServiceImpl implements IncidentService {
     public Incident createIncident(IncidentRequest request) {
         log.info("Creating new incident: {}", request.getTitle());
 
-        Incident incident = Incident.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .priority(request.getPriority() != null ? request.getPriority() : Priority.LOW)
-                .status(request.getStatus() != null ? request.getStatus() : Status.OPEN)
-                .assignee(request.getAssignee())
-                .build();
-
-        Incident saved = incidentRepository.save(incident);
+        Incident saved = incidentRepository.save(toEntity(request));
+        incidentCache.invalidate(saved.getId(), null, IncidentState.of(saved));
+        incidentCounters.record(null, IncidentState.of(saved));
+        IncidentResponse response = IncidentResponse.fromEntity(saved);
+        overdueIncidents.record(response);
+        incidentSearch.record(response);
         log.info("Created incident with id: {}", saved.getId());
         return saved;
     }
 
     @Override
     @Transactional
-    public Incident updateIncident(Long id, IncidentRequest request) {
-        log.info("Updating incident with id: {}", id);
+    public BulkCreateResult createIncidents(List<IncidentRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("At least one incident is required");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new ValidationException("At most " + MAX_BULK_SIZE + " incidents can be created at once");
+        }
+        log.info("Bulk creating {} incidents", requests.size());
 
-        Incident incident = getIncidentById(id);
+        List<List<String>> errors = new ArrayList<>(requests.size());
+        List<Incident> toSave = new ArrayList<>(requests.size());
+        for (IncidentRequest request : requests) {
+            List<String> itemErrors = request == null
+                    ? List.of("Incident is required")
+                    : validator.validate(request).stream().map(ConstraintViolation::getMessage).sorted().toList();
+            errors.add(itemErrors);
+            if (itemErrors.isEmpty()) {
+                toSave.add(toEntity(request));
+            }
+        }
 
-        incident.setTitle(request.getTitle());
-        incident.setDescription(request.getDescription());
-        incident.setPriority(request.getPriority());
-        incident.setAssignee(request.getAssignee());
+        // Ids come from the pooled sequence, so these inserts are sent as JDBC batches
+        List<Incident> saved = incidentRepository.saveAll(toSave);
 
-        // Handle status change
-        if (request.getStatus() != null && incident.getStatus() != request.getStatus()) {
-            incident.setStatus(request.getStatus());
-            log.debug("Status changed from {} to {}",
-                     incident.getStatus(), request.getStatus());
+        List<ItemResult> results = new ArrayList<>(requests.size());
+        int next = 0;
+        for (int index = 0; index < requests.size(); index++) {
+            if (errors.get(index).isEmpty()) {
+                Incident incident = saved.get(next++);
+                incidentCounters.record(null, IncidentState.of(incident));
+                IncidentResponse response = IncidentResponse.fromEntity(incident);
+                overdueIncidents.record(response);
+                incidentSearch.record(response);
+                results.add(new ItemResult(index, incident, List.of()));
+            } else {
+                results.add(new ItemResult(index, null, errors.get(index)));
+            }
         }
 
-        return incidentRepository.save(incident);
+        incidentCache.invalidateAll(
+                saved.stream().map(Incident::getId).toList(),
+                saved.stream().map(IncidentState::of).distinct().toList());
+
+        log.info("Bulk created {} incidents, rejected {}", saved.size(), requests.size() - saved.size());
+        return new BulkCreateResult(saved.size(), requests.size() - saved.size(), results);
+    }
+
+    @Override
+    @Transactional
+    public Incident updateIncident(Long id, IncidentRequest request) {
+        return updateIncident(id, request, null);
+    }
+
+    @Override
+    @Transactional
+    public Incident updateIncident(Long id, IncidentRequest request, Long expectedVersion) {
+        log.info("Updating incident with id: {}", id);
+        return applyUpdate(findIncident(id, expectedVersion), request);
+    }
+
+    @Override
+    @Transactional
+    public Incident patchIncident(Long id, UnaryOperator<IncidentRequest> patch, Long expectedVersion) {
+        log.info("Patching incident with id: {}", id);
+
+        Incident incident = findIncident(id, expectedVersion);
+        IncidentRequest request = patch.apply(toRequest(incident));
+        List<String> errors = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage).sorted().toList();
+        if (!errors.isEmpty()) {
+            throw new ValidationException(String.join("; ", errors));
+        }
+        if (request.getPriority() == null || request.getStatus() == null) {
+            throw new ValidationException("Priority and status must not be null");
+        }
+        return applyUpdate(incident, request);
     }
 
     @Override
@@ -86,15 +403,77 @@ public class IncidentServiceImpl implements IncidentService {
     public Incident updateStatus(Long id, Status status) {
         log.info("Updating status of incident {} to {}", id, status);
 
-        Incident incident = getIncidentById(id);
-        incident.setStatus(status);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Incident previous = incidentRepository.updateStatusReturningPrevious(id, status, now)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident not found with id: " + id));
+        return recordStatusChange(previous, status, now);
+    }
 
-        // Set resolvedAt when status changes to RESOLVED
-        if (status == Status.RESOLVED && incident.getResolvedAt() == null) {
-            incident.setResolvedAt(LocalDateTime.now());
+    @Override
+    @Transactional
+    public Incident transitionStatus(Long id, Status expectedStatus, Status newStatus) {
+        if (expectedStatus == null || newStatus == null) {
+            throw new ValidationException("Expected and new status are required");
         }
+        log.info("Transitioning incident {} from {} to {}", id, expectedStatus, newStatus);
 
-        return incidentRepository.save(incident);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Incident previous = incidentRepository.compareAndSetStatus(id, expectedStatus, newStatus, now)
+                .orElse(null);
+        if (previous == null) {
+            // Only the losing path pays for a second query, to tell a conflict from a missing incident
+            Status current = incidentRepository.findStatusById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Incident not found with id: " + id));
+            throw new ConflictException("Incident " + id + " is " + current + ", not " + expectedStatus);
+        }
+        return recordStatusChange(previous, newStatus, now);
+    }
+
+    @Override
+    @Transactional
+    public BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request) {
+        Status status = request.getStatus();
+        List<Long> ids = request.getIds();
+        IncidentFilter filter = request.getFilter();
+        if (status == null) {
+            throw new ValidationException("Status is required");
+        }
+        if ((ids == null) == (filter == null)) {
+            throw new ValidationException("Exactly one of ids or filter must be given");
+        }
+        if (ids != null && (ids.isEmpty() || ids.size() > MAX_BULK_SIZE)) {
+            throw new ValidationException("Between 1 and " + MAX_BULK_SIZE + " ids must be given");
+        }
+        if (filter != null && !filter.hasCriteria()) {
+            throw new ValidationException("Filter must have at least one criterion");
+        }
+        log.info("Bulk updating status to {} for {}", status, ids != null ? ids.size() + " ids" : filter);
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Map<Long, IncidentState> previous =
+                incidentRepository.updateStatusesReturningPrevious(ids, filter, status, now);
+        List<Long> affectedIds = List.copyOf(previous.keySet());
+        int affected = affectedIds.size();
+
+        List<IncidentState> states = new ArrayList<>();
+        for (IncidentState before : previous.values()) {
+            IncidentState after = new IncidentState(status, before.priority(), before.assignee());
+            incidentCounters.record(before, after);
+            states.add(before);
+            states.add(after);
+        }
+        incidentCache.invalidateAll(affectedIds, states.stream().distinct().toList());
+        overdueIncidents.recordStatus(affectedIds, status);
+
+        List<Long> skippedIds = List.of();
+        if (ids != null) {
+            Set<Long> skipped = new LinkedHashSet<>(ids);
+            affectedIds.forEach(skipped::remove);
+            skippedIds = List.copyOf(skipped);
+        }
+
+        log.info("Bulk updated {} incidents to {}, skipped {}", affected, status, skippedIds.size());
+        return new BulkStatusUpdateResponse(affected, skippedIds);
     }
 
     @Override
@@ -102,26 +481,42 @@ public class IncidentServiceImpl implements IncidentService {
     public void deleteIncident(Long id) {
         log.info("Deleting incident with id: {}", id);
 
-        Incident incident = getIncidentById(id);
-        incidentRepository.delete(incident);
+        Incident incident = incidentRepository.deleteByIdReturning(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Incident not found with id: " + id));
+        incidentCache.invalidate(id, IncidentState.of(incident), null);
+        incidentCounters.record(IncidentState.of(incident), null);
+        overdueIncidents.remove(id);
+        incidentSearch.remove(id);
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Incident> getIncidentsByStatus(Status status) {
         log.debug("Fetching incidents with status: {}", status);
-        return incidentRepository.findByStatus(status);
+        return cachedList(QueryKey.list("byStatus", IncidentFilter.builder().status(status).build()),
+                () -> incidentRepository.findByStatus(status));
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Incident> getIncidentsByPriority(Priority priority) {
         log.debug("Fetching incidents with priority: {}", priority);
-        return incidentRepository.findByPriority(priority);
+        return cachedList(QueryKey.list("byPriority", IncidentFilter.builder().priority(priority).build()),
+                () -> incidentRepository.findByPriority(priority));
     }
 
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Incident> getIncidentsByAssignee(String assignee) {
         log.debug("Fetching incidents for assignee: {}", assignee);
-        return incidentRepository.findByAssignee(assignee);
+        return cachedList(QueryKey.list("byAssignee", IncidentFilter.builder().assignee(assignee).build()),
+                () -> incidentRepository.findByAssignee(assignee));
+    }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public IncidentStatsResponse getIncidentStats() {
+        return incidentCounters.snapshot();
     }
 
     @Override
@@ -130,4 +525,170 @@ public class IncidentServiceImpl implements IncidentService {
         log.debug("Fetching incidents older than {} days", daysOld);
         return incidentRepository.findOverdueIncidents(cutoff);
     }
+
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<IncidentResponse> getOverdueIncidents(int daysOld, Priority priority) {
+        if (daysOld < 0) {
+            throw new ValidationException("Days must not be negative");
+        }
+        log.debug("Reading incidents older than {} days, priority={}, from the overdue set", daysOld, priority);
+        return overdueIncidents.find(daysOld, priority);
+    }
+
+    @Override
+    public List<IncidentSearchHit> searchIncidents(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query must not be blank");
+        }
+        if (limit < 1) {
+            throw new ValidationException("Limit must be at least 1");
+        }
+        int hits = Math.min(limit, MAX_PAGE_SIZE);
+        log.debug("Searching incidents for '{}', limit={}", query, hits);
+        return incidentSearch.search(query.strip(), hits);
+    }
+
+    /**
+     * Load an incident for modification, bypassing the cache so writes
+     * never mutate an instance that concurrent readers may hold.
+     */
+    private Incident findIncident(Long id) {
+        return incidentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    "Incident not found with id: " + id));
+    }
+
+    /**
+     * Load an incident for modification and check it is at the version the client read.
+     * Hibernate checks the version again in the UPDATE, which catches a write that
+     * commits between this read and the flush.
+     */
+    private Incident findIncident(Long id, Long expectedVersion) {
+        Incident incident = findIncident(id);
+        if (expectedVersion != null && !expectedVersion.equals(incident.getVersion())) {
+            throw new ConflictException("Incident " + id + " is at version " + incident.getVersion()
+                    + ", not " + expectedVersion);
+        }
+        return incident;
+    }
+
+    /**
+     * Copy a request onto a managed incident and record the change; with dynamic
+     * updates, the flush only writes the columns whose values differ.
+     */
+    private Incident applyUpdate(Incident incident, IncidentRequest request) {
+        IncidentState before = IncidentState.of(incident);
+
+        incident.setTitle(request.getTitle());
+        incident.setDescription(request.getDescription());
+        incident.setPriority(request.getPriority());
+        incident.setAssignee(request.getAssignee());
+
+        // Handle status change
+        if (request.getStatus() != null && incident.getStatus() != request.getStatus()) {
+            log.debug("Status changed from {} to {}",
+                     incident.getStatus(), request.getStatus());
+            incident.setStatus(request.getStatus());
+        }
+
+        // Flushed here so a lost version race fails inside the service and the new version is known
+        Incident saved = incidentRepository.saveAndFlush(incident);
+        incidentCache.invalidate(saved.getId(), before, IncidentState.of(saved));
+        incidentCounters.record(before, IncidentState.of(saved));
+        IncidentResponse response = IncidentResponse.fromEntity(saved);
+        overdueIncidents.record(response);
+        incidentSearch.record(response);
+        return saved;
+    }
+
+    /**
+     * Bring the detached previous row of a single-statement status update in line
+     * with what the UPDATE wrote, and record the change.
+     */
+    private Incident recordStatusChange(Incident incident, Status status, LocalDateTime now) {
+        IncidentState before = IncidentState.of(incident);
+
+        incident.setStatus(status);
+        incident.setUpdatedAt(now);
+        if (status == Status.RESOLVED && incident.getResolvedAt() == null) {
+            incident.setResolvedAt(now);
+        }
+        incident.setVersion(incident.getVersion() + 1);
+
+        incidentCache.invalidate(incident.getId(), before, IncidentState.of(incident));
+        incidentCounters.record(before, IncidentState.of(incident));
+        IncidentResponse response = IncidentResponse.fromEntity(incident);
+        overdueIncidents.record(response);
+        incidentSearch.record(response);
+        return incident;
+    }
+
+    private static Incident toEntity(IncidentRequest request) {
+        return Incident.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .priority(request.getPriority() != null ? request.getPriority() : Priority.LOW)
+                .status(request.getStatus() != null ? request.getStatus() : Status.OPEN)
+                .assignee(request.getAssignee())
+                .build();
+    }
+
+    private static IncidentRequest toRequest(Incident incident) {
+        return IncidentRequest.builder()
+                .title(incident.getTitle())
+                .description(incident.getDescription())
+                .priority(incident.getPriority())
+                .status(incident.getStatus())
+                .assignee(incident.getAssignee())
+                .build();
+    }
+
+    /**
+     * Read-through lookup of an unpaged query result.
+     */
+    private List<Incident> cachedList(QueryKey key, Supplier<List<Incident>> loader) {
+        CursorPage<Incident> cached = incidentCache.getQuery(key);
+        if (cached != null) {
+            return cached.getItems();
+        }
+
+        long generation = incidentCache.queryGeneration(key);
+        List<Incident> incidents = Collections.unmodifiableList(loader.get());
+        incidentCache.putQuery(key, new CursorPage<>(incidents, null), generation);
+        return incidents;
+    }
+
+    /**
+     * Copy the selected columns of a projection row into a detached incident.
+     */
+    private static Incident toPartialIncident(Tuple tuple, List<Selection<?>> selections) {
+        Incident incident = new Incident();
+        for (Selection<?> selection : selections) {
+            Object value = tuple.get(selection.getAlias());
+            switch (selection.getAlias()) {
+                case "id" -> incident.setId((Long) value);
+                case "title" -> incident.setTitle((String) value);
+                case "description" -> incident.setDescription((String) value);
+                case "priority" -> incident.setPriority((Priority) value);
+                case "status" -> incident.setStatus((Status) value);
+                case "assignee" -> incident.setAssignee((String) value);
+                case "createdAt" -> incident.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> incident.setUpdatedAt((LocalDateTime) value);
+                case "resolvedAt" -> incident.setResolvedAt((LocalDateTime) value);
+                default -> throw new IllegalStateException("Unexpected projection column: " + selection.getAlias());
+            }
+        }
+        return incident;
+    }
+
+    /**
+     * Stable keyset ordering on (createdAt, id); id breaks ties between equal timestamps.
+     */
+    private static Sort sortFor(IncidentFilter filter) {
+        Sort.Direction direction = filter != null && filter.getDirection() != null
+                ? filter.getDirection()
+                : Sort.Direction.DESC;
+        return Sort.by(direction, "createdAt", "id");
+    }
 }
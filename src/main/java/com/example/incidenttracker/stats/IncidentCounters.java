@@ -0,0 +1,171 @@
+package com.example.incidenttracker.stats;
+
+import com.example.incidenttracker.dto.IncidentCount;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
+import com.example.incidenttracker.dto.IncidentStatsResponse.AssigneeCount;
+import com.example.incidenttracker.dto.IncidentStatsResponse.Cell;
+import com.example.incidenttracker.dto.IncidentStatsResponse.PriorityCount;
+import com.example.incidenttracker.dto.IncidentStatsResponse.StatusCount;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live incident counts per status x priority x assignee.
+ *
+ * Each assignee owns a status x priority matrix of LongAdders, so concurrent
+ * mutations update striped cells without contention and stats reads never
+ * query the database. Counts are adjusted after each committed write and
+ * periodically replaced by a GROUP BY query to correct any drift, for example
+ * from rows changed outside the application.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IncidentCounters {
+
+    private static final int STATUSES = Status.values().length;
+    private static final int PRIORITIES = Priority.values().length;
+
+    private final IncidentRepository incidentRepository;
+
+    /**
+     * Matrices by assignee. ConcurrentHashMap keys cannot be null, so assignees are
+     * wrapped in {@link AssigneeKey}, which keeps unassigned apart from "".
+     */
+    private volatile Map<AssigneeKey, LongAdder[]> counts = new ConcurrentHashMap<>();
+    private volatile LocalDateTime reconciledAt;
+
+    /**
+     * Record a committed write. Either state may be null (create/delete).
+     *
+     * @param before state before the write, or null for a create
+     * @param after state after the write, or null for a delete
+     */
+    public void record(IncidentState before, IncidentState after) {
+        AfterCommit.run(() -> {
+            if (before != null) {
+                cell(before).decrement();
+            }
+            if (after != null) {
+                cell(after).increment();
+            }
+        });
+    }
+
+    /**
+     * Replace the live counts with an exact aggregate from the database.
+     * Writes that commit while the aggregate runs may be counted twice or not at all
+     * until the next reconciliation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${incident-tracker.stats.reconcile-interval:PT5M}",
+               initialDelayString = "${incident-tracker.stats.reconcile-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        Map<AssigneeKey, LongAdder[]> fresh = new ConcurrentHashMap<>();
+        for (IncidentCount row : incidentRepository.countByStatusPriorityAndAssignee()) {
+            LongAdder adder = fresh.computeIfAbsent(key(row.getAssignee()), k -> newMatrix())
+                    [index(row.getStatus(), row.getPriority())];
+            adder.add(row.getTotal());
+        }
+        counts = fresh;
+        reconciledAt = LocalDateTime.now();
+        log.debug("Reconciled incident counters for {} assignees", fresh.size());
+    }
+
+    /**
+     * Read the current counts. Cost depends on the number of distinct assignees, not on table size.
+     */
+    public IncidentStatsResponse snapshot() {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        Map<String, Long> byAssignee = new LinkedHashMap<>();
+        List<Cell> breakdown = new ArrayList<>();
+        long total = 0;
+
+        for (Status status : Status.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        for (Map.Entry<AssigneeKey, LongAdder[]> entry : counts.entrySet()) {
+            String assignee = entry.getKey().assignee();
+            long assigneeTotal = 0;
+            for (Status status : Status.values()) {
+                for (Priority priority : Priority.values()) {
+                    long count = entry.getValue()[index(status, priority)].sum();
+                    if (count == 0) {
+                        continue;
+                    }
+                    breakdown.add(new Cell(status, priority, assignee, count));
+                    byStatus.merge(status, count, Long::sum);
+                    byPriority.merge(priority, count, Long::sum);
+                    assigneeTotal += count;
+                }
+            }
+            if (assigneeTotal != 0) {
+                byAssignee.put(assignee, assigneeTotal);
+                total += assigneeTotal;
+            }
+        }
+
+        return IncidentStatsResponse.builder()
+                .total(total)
+                .byStatus(byStatus.entrySet().stream()
+                        .map(e -> new StatusCount(e.getKey(), e.getValue())).toList())
+                .byPriority(byPriority.entrySet().stream()
+                        .map(e -> new PriorityCount(e.getKey(), e.getValue())).toList())
+                .byAssignee(byAssignee.entrySet().stream()
+                        .map(e -> new AssigneeCount(e.getKey(), e.getValue())).toList())
+                .breakdown(breakdown)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    private LongAdder cell(IncidentState state) {
+        return counts.computeIfAbsent(key(state.assignee()), k -> newMatrix())
+                [index(state.status(), state.priority())];
+    }
+
+    private static AssigneeKey key(String assignee) {
+        return new AssigneeKey(assignee);
+    }
+
+    private static int index(Status status, Priority priority) {
+        return status.ordinal() * PRIORITIES + priority.ordinal();
+    }
+
+    private static LongAdder[] newMatrix() {
+        LongAdder[] matrix = new LongAdder[STATUSES * PRIORITIES];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = new LongAdder();
+        }
+        return matrix;
+    }
+
+    /**
+     * Map key for an assignee, null when unassigned.
+     */
+    private record AssigneeKey(String assignee) {}
+}
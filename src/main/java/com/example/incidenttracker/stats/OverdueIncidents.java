@@ -0,0 +1,285 @@
+package com.example.incidenttracker.stats;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory set of open and in-progress incidents, ordered by age within each
+ * priority, so "older than N days" is a head-set view rather than a table scan.
+ *
+ * A scheduled scan reads incidents created since the last one, keyset-paginated
+ * on (createdAt, id) and re-reading a short overlap so rows that commit late are
+ * not missed. Committed writes made through the service update or drop entries
+ * directly. A periodic full rebuild corrects anything else, for example status
+ * changes made outside the application; writes that commit while it runs may be
+ * missed until the next rebuild.
+ *
+ * Scans and rebuilds take turns on a {@link ReentrantLock} rather than the
+ * monitor: they read the database while holding it, and a virtual thread
+ * blocked inside {@code synchronized} would pin its carrier.
+ */
+@Component
+@Slf4j
+public class OverdueIncidents {
+
+    private final IncidentRepository incidentRepository;
+    private final int batchSize;
+    private final Duration overlap;
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Index index = new Index();
+    private volatile LocalDateTime scannedAt;
+
+    public OverdueIncidents(
+            IncidentRepository incidentRepository,
+            @Value("${incident-tracker.overdue.scan-batch-size:1000}") int batchSize,
+            @Value("${incident-tracker.overdue.scan-overlap:PT1M}") Duration overlap) {
+        this.incidentRepository = incidentRepository;
+        this.batchSize = batchSize;
+        this.overlap = overlap;
+    }
+
+    /**
+     * Record the committed state of a created or updated incident: it is added
+     * or refreshed while open or in progress, and dropped otherwise.
+     *
+     * @param incident the incident as saved
+     */
+    public void record(IncidentResponse incident) {
+        AfterCommit.run(() -> {
+            if (isActive(incident.getStatus())) {
+                index.put(incident);
+            } else {
+                index.remove(incident.getId());
+            }
+        });
+    }
+
+    /**
+     * Record a committed status change of several incidents.
+     *
+     * @param ids the incidents that changed
+     * @param status their new status
+     */
+    public void recordStatus(Collection<Long> ids, Status status) {
+        AfterCommit.run(() -> ids.forEach(id -> index.setStatus(id, status)));
+    }
+
+    /**
+     * Record a committed delete.
+     *
+     * @param id the deleted incident
+     */
+    public void remove(Long id) {
+        AfterCommit.run(() -> index.remove(id));
+    }
+
+    /**
+     * Add incidents created since the previous scan.
+     */
+    @Scheduled(fixedDelayString = "${incident-tracker.overdue.scan-interval:PT1M}",
+               initialDelayString = "${incident-tracker.overdue.scan-interval:PT1M}")
+    @Transactional(readOnly = true)
+    public void scan() {
+        loadLock.lock();
+        try {
+            Index current = index;
+            AgeKey watermark = current.watermark;
+            int added = load(current, watermark == null ? null
+                    : new AgeKey(watermark.createdAt().minus(overlap), Long.MIN_VALUE));
+            scannedAt = LocalDateTime.now();
+            log.debug("Scanned {} new open incidents, {} tracked", added, current.size());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Replace the set with every open and in-progress incident in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${incident-tracker.overdue.rebuild-interval:PT1H}",
+               initialDelayString = "${incident-tracker.overdue.rebuild-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        loadLock.lock();
+        try {
+            Index fresh = new Index();
+            load(fresh, null);
+            index = fresh;
+            scannedAt = LocalDateTime.now();
+            log.debug("Rebuilt overdue set with {} open incidents", fresh.size());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Open and in-progress incidents created more than {@code days} days ago, oldest first.
+     *
+     * @param days minimum age in days
+     * @param priority only incidents of this priority, or null for all
+     * @return the overdue incidents
+     */
+    public List<IncidentResponse> find(int days, Priority priority) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
+        return index.olderThan(cutoff, priority);
+    }
+
+    /**
+     * @return when the set was last scanned or rebuilt, or null before the first scan
+     */
+    public LocalDateTime scannedAt() {
+        return scannedAt;
+    }
+
+    private int load(Index target, AgeKey after) {
+        int loaded = 0;
+        List<IncidentResponse> batch;
+        do {
+            batch = after == null
+                    ? incidentRepository.findActive(Limit.of(batchSize))
+                    : incidentRepository.findActiveAfter(after.createdAt(), after.id(), Limit.of(batchSize));
+            for (IncidentResponse incident : batch) {
+                if (target.put(incident)) {
+                    loaded++;
+                }
+            }
+            if (!batch.isEmpty()) {
+                IncidentResponse last = batch.get(batch.size() - 1);
+                target.advanceWatermark(last);
+                after = AgeKey.of(last);
+            }
+        } while (batch.size() == batchSize);
+        return loaded;
+    }
+
+    private static boolean isActive(Status status) {
+        return status == Status.OPEN || status == Status.IN_PROGRESS;
+    }
+
+    /**
+     * Position of an incident in age order: oldest first, ties broken by id.
+     */
+    private record AgeKey(LocalDateTime createdAt, Long id) implements Comparable<AgeKey> {
+
+        private static final Comparator<AgeKey> ORDER =
+                Comparator.comparing(AgeKey::createdAt).thenComparing(AgeKey::id);
+
+        static AgeKey of(IncidentResponse incident) {
+            return new AgeKey(incident.getCreatedAt(), incident.getId());
+        }
+
+        @Override
+        public int compareTo(AgeKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Incidents by id, plus one age-ordered map per priority. Each id is updated
+     * atomically through {@link ConcurrentHashMap#compute}, so concurrent writes
+     * to one incident cannot leave it under two priorities.
+     */
+    private static final class Index {
+
+        private final Map<Long, IncidentResponse> byId = new ConcurrentHashMap<>();
+        private final Map<Priority, ConcurrentNavigableMap<AgeKey, IncidentResponse>> byPriority =
+                new EnumMap<>(Priority.class);
+
+        /**
+         * Newest position read by a scan.
+         */
+        private volatile AgeKey watermark;
+
+        Index() {
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, new ConcurrentSkipListMap<>());
+            }
+        }
+
+        /**
+         * @return whether the incident was not tracked before
+         */
+        boolean put(IncidentResponse incident) {
+            boolean[] added = {false};
+            byId.compute(incident.getId(), (id, previous) -> {
+                if (previous != null) {
+                    byPriority.get(previous.getPriority()).remove(AgeKey.of(previous));
+                }
+                byPriority.get(incident.getPriority()).put(AgeKey.of(incident), incident);
+                added[0] = previous == null;
+                return incident;
+            });
+            return added[0];
+        }
+
+        void remove(Long id) {
+            byId.computeIfPresent(id, (key, previous) -> {
+                byPriority.get(previous.getPriority()).remove(AgeKey.of(previous));
+                return null;
+            });
+        }
+
+        void setStatus(Long id, Status status) {
+            if (!isActive(status)) {
+                remove(id);
+                return;
+            }
+            byId.computeIfPresent(id, (key, previous) -> {
+                IncidentResponse updated = new IncidentResponse(previous.getId(), previous.getTitle(),
+                        previous.getDescription(), previous.getPriority(), status, previous.getAssignee(),
+                        previous.getCreatedAt(), previous.getUpdatedAt(), previous.getResolvedAt());
+                byPriority.get(updated.getPriority()).put(AgeKey.of(updated), updated);
+                return updated;
+            });
+        }
+
+        // Only compares in memory, so the monitor is never held across I/O
+        synchronized void advanceWatermark(IncidentResponse incident) {
+            AgeKey key = AgeKey.of(incident);
+            if (watermark == null || key.compareTo(watermark) > 0) {
+                watermark = key;
+            }
+        }
+
+        List<IncidentResponse> olderThan(LocalDateTime cutoff, Priority priority) {
+            AgeKey bound = new AgeKey(cutoff, Long.MIN_VALUE);
+            if (priority != null) {
+                return List.copyOf(byPriority.get(priority).headMap(bound).values());
+            }
+            List<IncidentResponse> result = new ArrayList<>();
+            byPriority.values().forEach(incidents -> result.addAll(incidents.headMap(bound).values()));
+            result.sort(Comparator.comparing(AgeKey::of));
+            return result;
+        }
+
+        int size() {
+            return byId.size();
+        }
+    }
+}
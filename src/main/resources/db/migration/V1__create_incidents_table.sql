@@ -0,0 +1,15 @@
+-- Baseline schema for the incidents table.
+-- Matches the table previously generated by Hibernate (ddl-auto: update), so
+-- existing databases are baselined at this version and skip this script.
+
+CREATE TABLE IF NOT EXISTS incidents (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(200)  NOT NULL,
+    description VARCHAR(2000),
+    priority    VARCHAR(20)   NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'CRITICAL')),
+    status      VARCHAR(20)   NOT NULL CHECK (status IN ('OPEN', 'IN_PROGRESS', 'RESOLVED', 'CLOSED')),
+    assignee    VARCHAR(100),
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    resolved_at TIMESTAMP(6)
+);
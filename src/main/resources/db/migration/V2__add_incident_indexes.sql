@@ -0,0 +1,27 @@
+-- Secondary indexes for the incident query paths.
+--
+-- Built CONCURRENTLY so they can be rolled out on a live table without
+-- blocking writes. Flyway runs this script outside a transaction because
+-- CREATE INDEX CONCURRENTLY cannot run inside one. If a build fails it
+-- leaves an INVALID index behind: drop it and re-run the migration.
+
+-- Keyset pagination without filters: ORDER BY created_at, id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_created_at_id
+    ON incidents (created_at, id);
+
+-- findByStatus, findByStatusAndPriority, and status/priority filtered pages ordered by created_at
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_status_priority_created_at
+    ON incidents (status, priority, created_at);
+
+-- findByPriority and priority-only filtered pages ordered by created_at
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_priority_created_at
+    ON incidents (priority, created_at);
+
+-- findByAssignee, optionally narrowed by status
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_assignee_status
+    ON incidents (assignee, status);
+
+-- findOverdueIncidents: only open and in-progress rows, by age
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_open_created_at
+    ON incidents (created_at)
+    WHERE status IN ('OPEN', 'IN_PROGRESS');
@@ -0,0 +1,13 @@
+-- Move id generation from the identity/serial column to a dedicated sequence
+-- that Hibernate allocates from in blocks of 50, which enables JDBC insert
+-- batching. The application uses the pooled-lo optimizer, so each value drawn
+-- from the sequence is the first id of a block; inserts from other clients that
+-- rely on the column default draw their own values and cannot collide.
+
+CREATE SEQUENCE IF NOT EXISTS incidents_seq INCREMENT BY 50;
+
+SELECT setval('incidents_seq', COALESCE((SELECT MAX(id) FROM incidents), 0) + 1, false);
+
+ALTER TABLE incidents ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE incidents ALTER COLUMN id SET DEFAULT nextval('incidents_seq');
+ALTER SEQUENCE incidents_seq OWNED BY incidents.id;
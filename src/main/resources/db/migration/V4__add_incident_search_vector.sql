@@ -0,0 +1,13 @@
+-- Full-text search document for each incident, maintained by PostgreSQL.
+--
+-- Title terms are weighted A and description terms B, so ts_rank_cd ranks a
+-- match in the title above the same match in the description. The column is
+-- generated, so no application write path has to keep it in sync. Adding a
+-- stored generated column rewrites the table once under an exclusive lock.
+
+ALTER TABLE incidents
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(description, '')), 'B')
+        ) STORED;
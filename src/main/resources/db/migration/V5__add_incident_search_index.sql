@@ -0,0 +1,9 @@
+-- GIN index behind full-text search (search_vector @@ query).
+--
+-- Kept apart from V4 because CREATE INDEX CONCURRENTLY must run outside a
+-- transaction, and Flyway will not mix it with transactional statements in
+-- one script. If the build fails it leaves an INVALID index behind: drop it
+-- and re-run the migration.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_search_vector
+    ON incidents USING GIN (search_vector);
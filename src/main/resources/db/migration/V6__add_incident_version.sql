@@ -0,0 +1,8 @@
+-- Optimistic-locking version of each incident, incremented by every update.
+--
+-- Writers check it in the WHERE clause of their UPDATE instead of locking the
+-- row while a client edits it, so a stale write affects no rows and is
+-- reported as a conflict. Existing rows start at 0; since PostgreSQL 11 adding
+-- a column with a constant default only changes the catalog, not the table.
+
+ALTER TABLE incidents ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
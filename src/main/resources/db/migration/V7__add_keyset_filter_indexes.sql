@@ -0,0 +1,26 @@
+-- Filtered keyset pages: WHERE <filter> ORDER BY created_at, id.
+--
+-- V2 had no index for status-only pages, and its created_at composites lacked
+-- the id tie-breaker, so PostgreSQL still sorted each filtered page. These
+-- replace them; the V2 indexes are dropped afterwards, as every query they
+-- served is served by a prefix of the new ones.
+--
+-- All statements run CONCURRENTLY, so Flyway runs this script outside a
+-- transaction. If a build fails it leaves an INVALID index behind: drop it
+-- and re-run the migration.
+
+-- Status-only filtered pages
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_status_created_at_id
+    ON incidents (status, created_at, id);
+
+-- findByStatusAndPriority and status+priority filtered pages
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_status_priority_created_at_id
+    ON incidents (status, priority, created_at, id);
+
+-- findByPriority and priority-only filtered pages
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_incidents_priority_created_at_id
+    ON incidents (priority, created_at, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_incidents_status_priority_created_at;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_incidents_priority_created_at;
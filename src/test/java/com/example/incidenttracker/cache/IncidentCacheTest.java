@@ -0,0 +1,191 @@
+package com.example.incidenttracker.cache;
+
+import com.example.incidenttracker.cache.IncidentCache.QueryKey;
+import com.example.incidenttracker.dto.CursorPage;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for IncidentCache.
+ * Verifies read-through storage, selective invalidation by status/priority,
+ * that loads racing an invalidation are not cached, and that hit/miss
+ * statistics are published to Micrometer.
+ */
+class IncidentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IncidentCache incidentCache;
+    private Incident testIncident;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        incidentCache = new IncidentCache(100, 1000, Duration.ofMinutes(1), meterRegistry);
+
+        testIncident = Incident.builder()
+                .id(1L)
+                .title("Test Incident")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .build();
+    }
+
+    @Test
+    void testPutAndGetIncident() {
+        // Act
+        incidentCache.putIncident(testIncident, incidentCache.incidentGeneration(1L));
+
+        // Assert
+        assertThat(incidentCache.getIncident(1L)).isSameAs(testIncident);
+        assertThat(incidentCache.getIncident(2L)).isNull();
+    }
+
+    @Test
+    void testInvalidate_EvictsIncidentById() {
+        // Arrange
+        incidentCache.putIncident(testIncident, incidentCache.incidentGeneration(1L));
+
+        // Act
+        incidentCache.invalidate(1L, IncidentState.of(testIncident), IncidentState.of(testIncident));
+
+        // Assert
+        assertThat(incidentCache.getIncident(1L)).isNull();
+    }
+
+    @Test
+    void testInvalidate_EvictsOnlyQueriesMatchingOldOrNewState() {
+        // Arrange
+        QueryKey openKey = QueryKey.list("byStatus", IncidentFilter.builder().status(Status.OPEN).build());
+        QueryKey resolvedKey = QueryKey.list("byStatus", IncidentFilter.builder().status(Status.RESOLVED).build());
+        QueryKey closedKey = QueryKey.list("byStatus", IncidentFilter.builder().status(Status.CLOSED).build());
+        QueryKey lowKey = QueryKey.list("byPriority", IncidentFilter.builder().priority(Priority.LOW).build());
+        QueryKey allKey = QueryKey.list("all", IncidentFilter.none());
+        for (QueryKey key : List.of(openKey, resolvedKey, closedKey, lowKey, allKey)) {
+            incidentCache.putQuery(key, new CursorPage<>(List.of(testIncident), null), incidentCache.queryGeneration(key));
+        }
+
+        // Act - OPEN/HIGH incident moves to RESOLVED/HIGH
+        incidentCache.invalidate(1L,
+                new IncidentState(Status.OPEN, Priority.HIGH, null),
+                new IncidentState(Status.RESOLVED, Priority.HIGH, null));
+
+        // Assert
+        assertThat(incidentCache.getQuery(openKey)).isNull();
+        assertThat(incidentCache.getQuery(resolvedKey)).isNull();
+        assertThat(incidentCache.getQuery(allKey)).isNull();
+        assertThat(incidentCache.getQuery(closedKey)).isNotNull();
+        assertThat(incidentCache.getQuery(lowKey)).isNotNull();
+    }
+
+    @Test
+    void testInvalidate_OnCreate_EvictsQueriesMatchingNewState() {
+        // Arrange
+        QueryKey highKey = QueryKey.list("byPriority", IncidentFilter.builder().priority(Priority.HIGH).build());
+        QueryKey lowKey = QueryKey.list("byPriority", IncidentFilter.builder().priority(Priority.LOW).build());
+        incidentCache.putQuery(highKey, new CursorPage<>(List.of(), null), incidentCache.queryGeneration(highKey));
+        incidentCache.putQuery(lowKey, new CursorPage<>(List.of(), null), incidentCache.queryGeneration(lowKey));
+
+        // Act
+        incidentCache.invalidate(1L, null, IncidentState.of(testIncident));
+
+        // Assert
+        assertThat(incidentCache.getQuery(highKey)).isNull();
+        assertThat(incidentCache.getQuery(lowKey)).isNotNull();
+    }
+
+    @Test
+    void testPutIncident_AfterInvalidationSinceLoad_IsSkipped() {
+        // Arrange - a reader takes the generation and loads the pre-commit state
+        long generation = incidentCache.incidentGeneration(1L);
+        long otherGeneration = incidentCache.incidentGeneration(2L);
+        incidentCache.invalidate(1L, IncidentState.of(testIncident), IncidentState.of(testIncident));
+        Incident other = Incident.builder().id(2L).title("Other").priority(Priority.LOW).status(Status.OPEN).build();
+
+        // Act
+        incidentCache.putIncident(testIncident, generation);
+        incidentCache.putIncident(other, otherGeneration);
+
+        // Assert
+        assertThat(incidentCache.getIncident(1L)).isNull();
+        assertThat(incidentCache.getIncident(2L)).isSameAs(other);
+    }
+
+    @Test
+    void testPutQuery_AfterMatchingInvalidationSinceLoad_IsSkipped() {
+        // Arrange
+        QueryKey openKey = QueryKey.list("byStatus", IncidentFilter.builder().status(Status.OPEN).build());
+        QueryKey closedKey = QueryKey.list("byStatus", IncidentFilter.builder().status(Status.CLOSED).build());
+        long openGeneration = incidentCache.queryGeneration(openKey);
+        long closedGeneration = incidentCache.queryGeneration(closedKey);
+        incidentCache.invalidate(1L,
+                new IncidentState(Status.OPEN, Priority.HIGH, null),
+                new IncidentState(Status.RESOLVED, Priority.HIGH, null));
+
+        // Act
+        incidentCache.putQuery(openKey, new CursorPage<>(List.of(testIncident), null), openGeneration);
+        incidentCache.putQuery(closedKey, new CursorPage<>(List.of(), null), closedGeneration);
+
+        // Assert
+        assertThat(incidentCache.getQuery(openKey)).isNull();
+        assertThat(incidentCache.getQuery(closedKey)).isNotNull();
+    }
+
+    @Test
+    void testPut_AfterClearSinceLoad_IsSkipped() {
+        // Arrange
+        QueryKey allKey = QueryKey.list("all", IncidentFilter.none());
+        long incidentGeneration = incidentCache.incidentGeneration(1L);
+        long queryGeneration = incidentCache.queryGeneration(allKey);
+        incidentCache.clear();
+
+        // Act
+        incidentCache.putIncident(testIncident, incidentGeneration);
+        incidentCache.putQuery(allKey, new CursorPage<>(List.of(testIncident), null), queryGeneration);
+
+        // Assert
+        assertThat(incidentCache.getIncident(1L)).isNull();
+        assertThat(incidentCache.getQuery(allKey)).isNull();
+    }
+
+    @Test
+    void testMetrics_RecordHitsAndMisses() {
+        // Arrange
+        incidentCache.putIncident(testIncident, incidentCache.incidentGeneration(1L));
+
+        // Act
+        incidentCache.getIncident(1L);
+        incidentCache.getIncident(2L);
+
+        // Assert
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "incidentsById").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "incidentsById").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testClear_DropsEverything() {
+        // Arrange
+        QueryKey allKey = QueryKey.list("all", IncidentFilter.none());
+        incidentCache.putIncident(testIncident, incidentCache.incidentGeneration(1L));
+        incidentCache.putQuery(allKey, new CursorPage<>(List.of(testIncident), null), incidentCache.queryGeneration(allKey));
+
+        // Act
+        incidentCache.clear();
+
+        // Assert
+        assertThat(incidentCache.getIncident(1L)).isNull();
+        assertThat(incidentCache.getQuery(allKey)).isNull();
+    }
+}
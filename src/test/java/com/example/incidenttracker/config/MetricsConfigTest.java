@@ -0,0 +1,73 @@
+package com.example.incidenttracker.config;
+
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the application metrics scraped at /actuator/prometheus.
+ * Metrics export is off in Spring Boot tests unless observability is auto-configured.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureGraphQlTester
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Transactional
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @Test
+    void testPrometheusEndpoint_ShouldExposeServiceRepositoryAndGraphQLHistograms() throws Exception {
+        // Arrange
+        incidentRepository.save(Incident.builder()
+                .title("Metrics Incident")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .build());
+        mockMvc.perform(get("/api/incidents")).andExpect(status().isOk());
+        graphQlTester.document("{ incidentsByStatus(status: OPEN) { id title } }").execute();
+
+        // Act
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertThat(scrape)
+                .contains("incident_service_seconds_bucket{class=\"com.example.incidenttracker.service.impl.IncidentServiceImpl\"")
+                .contains("method=\"getIncidentResponsePage\"")
+                .contains("incident_service_seconds{class=\"com.example.incidenttracker.service.impl.IncidentServiceImpl\"")
+                .contains("quantile=\"0.99\"")
+                .contains("le=\"0.25\"")
+                .contains("spring_data_repository_invocations_seconds_bucket")
+                .contains("incident_repository_results_rows_bucket")
+                .contains("method=\"findResponses\"")
+                .contains("graphql_datafetcher_seconds_bucket")
+                .contains("graphql_field_name=\"incidentsByStatus\"")
+                .contains("hikaricp_connections_acquire_seconds_bucket");
+    }
+}
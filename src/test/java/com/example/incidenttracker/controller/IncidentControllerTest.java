@@ -1,10 +1,16 @@
 package com.example.incidenttracker.controller;
 
+import com.example.incidenttracker.dto.BulkStatusUpdateRequest;
+import com.example.incidenttracker.dto.IncidentFilter;
 import com.example.incidenttracker.dto.IncidentRequest;
 import com.example.incidenttracker.model.Incident;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
 import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.search.IncidentSearch;
+import com.example.incidenttracker.stats.IncidentCounters;
+import com.example.incidenttracker.stats.OverdueIncidents;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,10 +18,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,6 +55,15 @@ class IncidentControllerTest {
     @Autowired
     private IncidentRepository incidentRepository;
 
+    @Autowired
+    private IncidentCounters incidentCounters;
+
+    @Autowired
+    private OverdueIncidents overdueIncidents;
+
+    @Autowired
+    private IncidentSearch incidentSearch;
+
     private Incident testIncident;
 
     @BeforeEach
@@ -116,6 +139,157 @@ class IncidentControllerTest {
                 .andExpect(jsonPath("$.validationErrors").isArray());
     }
 
+    @Test
+    void testCreateIncidentsBulk_AllValid_ShouldReturn201() throws Exception {
+        // Arrange
+        List<IncidentRequest> requests = List.of(
+                IncidentRequest.builder().title("Disk full").priority(Priority.HIGH).build(),
+                IncidentRequest.builder().title("Cert expiring").assignee("Alice").build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/incidents/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].incident.id").exists())
+                .andExpect(jsonPath("$.results[0].incident.priority").value("HIGH"))
+                .andExpect(jsonPath("$.results[1].incident.priority").value("LOW"))
+                .andExpect(jsonPath("$.results[1].incident.assignee").value("Alice"));
+
+        assertThat(incidentRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testCreateIncidentsBulk_MixedValidity_ShouldReturn207WithPerItemErrors() throws Exception {
+        // Arrange
+        List<IncidentRequest> requests = List.of(
+                IncidentRequest.builder().title("Disk full").build(),
+                IncidentRequest.builder().title("").build(),
+                IncidentRequest.builder().title("Cert expiring").build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/incidents/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].incident").doesNotExist())
+                .andExpect(jsonPath("$.results[1].errors", hasSize(greaterThan(0))))
+                .andExpect(jsonPath("$.results[2].success").value(true))
+                .andExpect(jsonPath("$.results[2].incident.title").value("Cert expiring"));
+
+        assertThat(incidentRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testCreateIncidentsBulk_Empty_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/incidents/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testUpdateStatusesByIds_ShouldResolveAndReportSkipped() throws Exception {
+        // Arrange
+        Incident open = incidentRepository.save(testIncident);
+        LocalDateTime earlier = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Incident resolved = incidentRepository.save(Incident.builder()
+                .title("Already resolved")
+                .status(Status.RESOLVED)
+                .resolvedAt(earlier)
+                .build());
+        Incident closed = incidentRepository.save(Incident.builder()
+                .title("Closed, resolved earlier")
+                .status(Status.CLOSED)
+                .resolvedAt(earlier)
+                .build());
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .status(Status.RESOLVED)
+                .ids(List.of(open.getId(), resolved.getId(), closed.getId(), 999_999L))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/incidents/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2))
+                .andExpect(jsonPath("$.skippedIds", hasSize(2)))
+                .andExpect(jsonPath("$.skippedIds[0]").value(resolved.getId()))
+                .andExpect(jsonPath("$.skippedIds[1]").value(999_999));
+
+        Incident reloadedOpen = incidentRepository.findById(open.getId()).orElseThrow();
+        assertThat(reloadedOpen.getStatus()).isEqualTo(Status.RESOLVED);
+        assertThat(reloadedOpen.getResolvedAt()).isNotNull();
+        Incident reloadedClosed = incidentRepository.findById(closed.getId()).orElseThrow();
+        assertThat(reloadedClosed.getStatus()).isEqualTo(Status.RESOLVED);
+        assertThat(reloadedClosed.getResolvedAt()).isEqualTo(earlier);
+    }
+
+    @Test
+    void testUpdateStatusesByFilter_ShouldUpdateMatchingOnly() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder().title("Other HIGH").priority(Priority.HIGH).build());
+        Incident low = incidentRepository.save(Incident.builder().title("Low").priority(Priority.LOW).build());
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .status(Status.IN_PROGRESS)
+                .filter(IncidentFilter.builder().priority(Priority.HIGH).build())
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/incidents/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2))
+                .andExpect(jsonPath("$.skippedIds", hasSize(0)));
+
+        assertThat(incidentRepository.findByStatus(Status.IN_PROGRESS)).hasSize(2);
+        assertThat(incidentRepository.findById(low.getId()).orElseThrow().getStatus()).isEqualTo(Status.OPEN);
+    }
+
+    @Test
+    void testUpdateStatuses_WithIdsAndFilter_ShouldReturn400() throws Exception {
+        // Arrange
+        BulkStatusUpdateRequest request = BulkStatusUpdateRequest.builder()
+                .status(Status.CLOSED)
+                .ids(List.of(1L))
+                .filter(IncidentFilter.builder().priority(Priority.HIGH).build())
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/incidents/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportIncidents_ShouldReportCountsAndRejectedRows() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "incidents.csv", "text/csv",
+                "title,priority\nDisk full,HIGH\n,LOW\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/incidents/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.quarantineFile").exists());
+
+        assertThat(incidentRepository.findByPriority(Priority.HIGH)).hasSize(1);
+    }
+
     @Test
     void testGetAllIncidents_ShouldReturnList() throws Exception {
         // Arrange
@@ -191,6 +365,348 @@ class IncidentControllerTest {
                 .andExpect(jsonPath("$[0].title").value("Test Incident"));
     }
 
+    @Test
+    void testGetAllIncidents_WithAssigneeAndCreatedRange_ShouldReturnFiltered() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);  // John Doe
+        incidentRepository.save(Incident.builder()
+                .title("Someone Else's")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .assignee("Jane Doe")
+                .build());
+        String from = LocalDateTime.now().minusHours(1).toString();
+        String to = LocalDateTime.now().plusHours(1).toString();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents")
+                        .param("assignee", "John Doe")
+                        .param("createdFrom", from)
+                        .param("createdTo", to))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Test Incident"));
+
+        mockMvc.perform(get("/api/incidents")
+                        .param("assignee", "John Doe")
+                        .param("createdTo", from))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void testGetAllIncidents_WithAscendingDirection_ShouldReturnOldestFirst() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Newer Incident")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents?direction=ASC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Test Incident"))
+                .andExpect(jsonPath("$[1].title").value("Newer Incident"));
+    }
+
+    @Test
+    void testGetAllIncidents_WithCurrentETag_ShouldReturn304UntilFilteredSetChanges() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);
+        MvcResult first = mockMvc.perform(get("/api/incidents").param("status", "OPEN").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IncidentController.TOTAL_COUNT_HEADER, "1"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+        assertThat(eTag).isNotNull();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents").param("status", "OPEN").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // Incidents outside the filter leave the fingerprint alone
+        incidentRepository.save(Incident.builder().title("Closed").priority(Priority.LOW).status(Status.CLOSED).build());
+        mockMvc.perform(get("/api/incidents").param("status", "OPEN").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        incidentRepository.save(Incident.builder().title("Another").priority(Priority.LOW).status(Status.OPEN).build());
+        mockMvc.perform(get("/api/incidents").param("status", "OPEN").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void testGetAllIncidents_WithoutValidatorOrTotal_ShouldNotSendListETag() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents").param("status", "OPEN"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(header().doesNotExist(IncidentController.TOTAL_COUNT_HEADER))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void testGetOverdueIncidents_ShouldReturnOldOpenIncidentsOnly() throws Exception {
+        // Arrange
+        testIncident.setCreatedAt(LocalDateTime.now().minusDays(10));
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Old But Resolved")
+                .priority(Priority.HIGH)
+                .status(Status.RESOLVED)
+                .createdAt(LocalDateTime.now().minusDays(10))
+                .build());
+        incidentRepository.save(Incident.builder()
+                .title("Recent")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .build());
+        overdueIncidents.rebuild();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/overdue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Test Incident"));
+
+        mockMvc.perform(get("/api/incidents/overdue").param("days", "0").param("priority", "LOW"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Recent"));
+    }
+
+    @Test
+    void testGetOverdueIncidents_WithNegativeDays_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/overdue").param("days", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchIncidents_ShouldEscapeMarkupInHighlights() throws Exception {
+        // Arrange
+        testIncident.setTitle("<script>steal()</script> timeout");
+        incidentRepository.save(testIncident);
+        incidentSearch.rebuild();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/search").param("q", "timeout"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].titleHighlight")
+                        .value("&lt;script&gt;steal()&lt;/script&gt; <mark>timeout</mark>"));
+    }
+
+    @Test
+    void testSearchIncidents_ShouldRankTitleMatchesFirstAndHighlight() throws Exception {
+        // Arrange
+        testIncident.setTitle("Gateway timeout on checkout");
+        testIncident.setDescription("Upstream returned 503 after 30s");
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Checkout errors")
+                .description("Intermittent timeout, clients see 503")
+                .priority(Priority.LOW)
+                .status(Status.RESOLVED)
+                .build());
+        incidentRepository.save(Incident.builder()
+                .title("Login timeout")
+                .priority(Priority.MEDIUM)
+                .status(Status.OPEN)
+                .build());
+        incidentSearch.rebuild();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/search").param("q", "Timeout 503"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].incident.title").value("Gateway timeout on checkout"))
+                .andExpect(jsonPath("$[0].titleHighlight").value("Gateway <mark>timeout</mark> on checkout"))
+                .andExpect(jsonPath("$[0].descriptionHighlight").value("Upstream returned <mark>503</mark> after 30s"))
+                .andExpect(jsonPath("$[1].incident.title").value("Checkout errors"));
+
+        mockMvc.perform(get("/api/incidents/search").param("q", "timeout").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void testSearchIncidents_WithBlankQuery_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllIncidents_WithUnknownStatus_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents?status=BOGUS"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("status")));
+    }
+
+    @Test
+    void testGetAllIncidents_WithLimit_ShouldReturnPagesByCursor() throws Exception {
+        // Arrange
+        for (int i = 1; i <= 5; i++) {
+            incidentRepository.save(Incident.builder()
+                    .title("Incident " + i)
+                    .priority(Priority.MEDIUM)
+                    .status(Status.OPEN)
+                    .build());
+        }
+
+        // Act & Assert - first page is newest first and carries a cursor
+        MvcResult firstPage = mockMvc.perform(get("/api/incidents?limit=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Incident 5"))
+                .andExpect(jsonPath("$[1].title").value("Incident 4"))
+                .andExpect(header().exists(IncidentController.NEXT_CURSOR_HEADER))
+                .andReturn();
+        String cursor = firstPage.getResponse().getHeader(IncidentController.NEXT_CURSOR_HEADER);
+
+        MvcResult secondPage = mockMvc.perform(get("/api/incidents?limit=2&cursor=" + cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Incident 3"))
+                .andExpect(jsonPath("$[1].title").value("Incident 2"))
+                .andReturn();
+        cursor = secondPage.getResponse().getHeader(IncidentController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/api/incidents?limit=2&cursor=" + cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Incident 1"))
+                .andExpect(header().doesNotExist(IncidentController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testGetAllIncidents_WithIncludeTotal_ShouldReturnTotalCountHeader() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Another Open")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents?status=OPEN&limit=1&includeTotal=true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string(IncidentController.TOTAL_COUNT_HEADER, "2"));
+    }
+
+    @Test
+    void testGetAllIncidents_WithInvalidCursor_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents?cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Invalid cursor")));
+    }
+
+    @Test
+    void testGetAllIncidents_WithZeroLimit_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents?limit=0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExportIncidents_AsNdjson_ShouldStreamOneLinePerIncident() throws Exception {
+        // Arrange - committed outside the test transaction so the streaming thread can see the rows
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Second Incident")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        try {
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/incidents/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            result.getAsyncResult();
+
+            // Assert
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Test Incident");
+            assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("Second Incident");
+        } finally {
+            incidentRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExportIncidents_AsJsonArrayWithFilter_ShouldStreamMatchingIncidents() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);  // HIGH
+        incidentRepository.save(Incident.builder()
+                .title("Low Priority")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        try {
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/incidents/export?format=json&priority=HIGH"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            result.getAsyncResult();
+
+            // Assert
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertThat(body.isArray()).isTrue();
+            assertThat(body).hasSize(1);
+            assertThat(body.get(0).get("priority").asText()).isEqualTo("HIGH");
+        } finally {
+            incidentRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void testExportIncidents_WithUnknownFormat_ShouldReturn400() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/export?format=xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetIncidentStats_ShouldReturnCountsPerDimension() throws Exception {
+        // Arrange
+        incidentRepository.save(testIncident);  // HIGH + OPEN + John Doe
+        incidentRepository.save(Incident.builder()
+                .title("Unassigned")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+        incidentCounters.reconcile();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatus[?(@.status == 'OPEN')].count").value(2))
+                .andExpect(jsonPath("$.byPriority[?(@.priority == 'HIGH')].count").value(1))
+                .andExpect(jsonPath("$.byAssignee[?(@.assignee == 'John Doe')].count").value(1))
+                .andExpect(jsonPath("$.breakdown", hasSize(2)))
+                .andExpect(jsonPath("$.reconciledAt").exists());
+    }
+
     @Test
     void testGetIncidentById_WhenExists_ShouldReturn200() throws Exception {
         // Arrange
@@ -204,6 +720,41 @@ class IncidentControllerTest {
                 .andExpect(jsonPath("$.priority").value("HIGH"));
     }
 
+    @Test
+    void testGetIncidentById_WithCurrentETag_ShouldReturn304UntilModified() throws Exception {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        MvcResult first = mockMvc.perform(get("/api/incidents/" + saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/" + saved.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/incidents/" + saved.getId() + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("\"IN_PROGRESS\""))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/incidents/" + saved.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void testGetIncidentById_WithETagOfMissingIncident_ShouldReturn404() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/incidents/999").header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testGetIncidentById_WhenNotExists_ShouldReturn404() throws Exception {
         // Act & Assert
@@ -251,6 +802,135 @@ class IncidentControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testPatchIncident_WithMergePatch_ShouldChangeOnlyGivenFields() throws Exception {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/incidents/" + saved.getId())
+                        .contentType(IncidentController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"assignee\": \"Bob\", \"description\": null, \"status\": \"RESOLVED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Test Incident"))
+                .andExpect(jsonPath("$.priority").value("HIGH"))
+                .andExpect(jsonPath("$.assignee").value("Bob"))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.status").value("RESOLVED"))
+                .andExpect(jsonPath("$.resolvedAt").exists());
+    }
+
+    @Test
+    void testPatchIncident_WithInvalidResult_ShouldReturn400() throws Exception {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/incidents/" + saved.getId())
+                        .contentType(IncidentController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"title\": \"\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/incidents/" + saved.getId())
+                        .contentType(IncidentController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"priority\": null}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/incidents/" + saved.getId())
+                        .contentType(IncidentController.MERGE_PATCH_JSON_VALUE)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testPatchIncident_WhenNotExists_ShouldReturn404() throws Exception {
+        // Act & Assert
+        mockMvc.perform(patch("/api/incidents/999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"assignee\": \"Bob\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUpdateIncident_WithIfMatch_ShouldRejectStaleVersionWith409() throws Exception {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        String eTag = mockMvc.perform(get("/api/incidents/" + saved.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+        IncidentRequest updateRequest = IncidentRequest.builder()
+                .title("Updated Title")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .build();
+
+        // Act & Assert
+        String newETag = mockMvc.perform(put("/api/incidents/" + saved.getId())
+                        .header("If-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/api/incidents/" + saved.getId())
+                        .header("If-Match", eTag)
+                        .contentType(IncidentController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"assignee\": \"Bob\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+
+        mockMvc.perform(patch("/api/incidents/" + saved.getId())
+                        .header("If-Match", newETag)
+                        .contentType(IncidentController.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"assignee\": \"Bob\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Updated Title"))
+                .andExpect(jsonPath("$.assignee").value("Bob"));
+    }
+
+    @Test
+    void testUpdateIncident_WithMalformedIfMatch_ShouldReturn400() throws Exception {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/incidents/" + saved.getId())
+                        .header("If-Match", "W/\"v0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(IncidentRequest.builder().title("Updated").build())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testTransitionStatus_ShouldApplyOnlyFromExpectedStatus() throws Exception {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        String transition = "{\"expectedStatus\": \"OPEN\", \"newStatus\": \"RESOLVED\"}";
+
+        // Act & Assert
+        mockMvc.perform(post("/api/incidents/" + saved.getId() + "/transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transition))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.status").value("RESOLVED"))
+                .andExpect(jsonPath("$.resolvedAt").exists());
+
+        mockMvc.perform(post("/api/incidents/" + saved.getId() + "/transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transition))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(containsString("RESOLVED")));
+
+        mockMvc.perform(post("/api/incidents/999/transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transition))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/incidents/" + saved.getId() + "/transition")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newStatus\": \"CLOSED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testUpdateStatus_ToResolved_ShouldReturn200() throws Exception {
         // Arrange
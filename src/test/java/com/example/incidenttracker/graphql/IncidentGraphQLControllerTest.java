@@ -1,18 +1,36 @@
 package com.example.incidenttracker.graphql;
 
+import com.example.incidenttracker.dto.BulkCreateResult;
+import com.example.incidenttracker.dto.BulkStatusUpdateResponse;
+import com.example.incidenttracker.dto.IncidentFilter;
 import com.example.incidenttracker.model.Incident;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
 import com.example.incidenttracker.repository.IncidentRepository;
 import com.example.incidenttracker.service.IncidentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.MappedBatchLoader;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.test.tester.GraphQlTester;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -21,8 +39,11 @@ import static org.assertj.core.api.Assertions.*;
  * Tests GraphQL resolver methods by directly calling controller methods.
  *
  * Note: Verifies that GraphQL resolvers correctly delegate to service layer.
+ * DataLoader batching is verified by executing documents and counting the
+ * statements Hibernate prepared for the request.
  */
 @SpringBootTest
+@AutoConfigureGraphQlTester
 @ActiveProfiles("test")
 @Transactional
 class IncidentGraphQLControllerTest {
@@ -36,6 +57,15 @@ class IncidentGraphQLControllerTest {
     @Autowired
     private IncidentService incidentService;
 
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Incident testIncident;
 
     @BeforeEach
@@ -57,7 +87,7 @@ class IncidentGraphQLControllerTest {
         Incident saved = incidentRepository.save(testIncident);
 
         // Act
-        List<Incident> incidents = graphQLController.incidents();
+        List<Incident> incidents = graphQLController.incidents(null, null);
 
         // Assert
         assertThat(incidents).hasSize(1);
@@ -70,7 +100,7 @@ class IncidentGraphQLControllerTest {
         Incident saved = incidentRepository.save(testIncident);
 
         // Act
-        Incident result = graphQLController.incident(saved.getId());
+        Incident result = loadIncident(saved.getId());
 
         // Assert
         assertThat(result).isNotNull();
@@ -81,7 +111,7 @@ class IncidentGraphQLControllerTest {
     @Test
     void testQueryIncidentById_NotFound() {
         // Act & Assert
-        assertThatThrownBy(() -> graphQLController.incident(999L))
+        assertThatThrownBy(() -> loadIncident(999L))
                 .isInstanceOf(com.example.incidenttracker.exception.ResourceNotFoundException.class);
     }
 
@@ -97,7 +127,7 @@ class IncidentGraphQLControllerTest {
         incidentRepository.save(inProgressIncident);
 
         // Act
-        List<Incident> results = graphQLController.incidentsByStatus(Status.OPEN);
+        List<Incident> results = graphQLController.incidentsByStatus(Status.OPEN, null);
 
         // Assert
         assertThat(results).hasSize(1);
@@ -116,7 +146,7 @@ class IncidentGraphQLControllerTest {
         incidentRepository.save(lowPriority);
 
         // Act
-        List<Incident> results = graphQLController.incidentsByPriority(Priority.HIGH);
+        List<Incident> results = graphQLController.incidentsByPriority(Priority.HIGH, null);
 
         // Assert
         assertThat(results).hasSize(1);
@@ -136,13 +166,119 @@ class IncidentGraphQLControllerTest {
         incidentRepository.save(janeIncident);
 
         // Act
-        List<Incident> results = graphQLController.incidentsByAssignee("John Doe");
+        List<Incident> results = graphQLController.incidentsByAssignee("John Doe", null);
 
         // Assert
         assertThat(results).hasSize(1);
         assertThat(results).allMatch(i -> "John Doe".equals(i.getAssignee()));
     }
 
+    @Test
+    void testQueryIncidentsWithFilter() {
+        // Arrange
+        incidentRepository.save(testIncident);  // HIGH + OPEN + John Doe
+        incidentRepository.save(Incident.builder()
+                .title("High but Closed")
+                .priority(Priority.HIGH)
+                .status(Status.CLOSED)
+                .assignee("John Doe")
+                .build());
+        incidentRepository.save(Incident.builder()
+                .title("Open but Low")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .assignee("John Doe")
+                .build());
+
+        IncidentGraphQLController.IncidentFilterInput filter = new IncidentGraphQLController.IncidentFilterInput(
+                Status.OPEN, Priority.HIGH, "John Doe", null, null, null, null, null);
+
+        // Act
+        List<Incident> results = graphQLController.incidents(filter, null);
+
+        // Assert
+        assertThat(results).extracting(Incident::getTitle).containsExactly("Test Incident");
+    }
+
+    @Test
+    void testQueryIncidentsWithFilter_InvalidTimestamp() {
+        // Arrange
+        IncidentGraphQLController.IncidentFilterInput filter = new IncidentGraphQLController.IncidentFilterInput(
+                null, null, null, "yesterday", null, null, null, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> graphQLController.incidents(filter, null))
+                .isInstanceOf(com.example.incidenttracker.exception.ValidationException.class)
+                .hasMessageContaining("createdFrom");
+    }
+
+    @Test
+    void testQueryIncidentsConnection_PagesWithCursors() {
+        // Arrange
+        for (int i = 1; i <= 3; i++) {
+            incidentRepository.save(Incident.builder()
+                    .title("Incident " + i)
+                    .priority(Priority.MEDIUM)
+                    .status(Status.OPEN)
+                    .build());
+        }
+
+        // Act
+        IncidentConnection firstPage = graphQLController.incidentsConnection(null, 2, null);
+        IncidentConnection secondPage = graphQLController.incidentsConnection(
+                null, 2, firstPage.pageInfo().endCursor());
+
+        // Assert
+        assertThat(firstPage.edges()).extracting(edge -> edge.node().getTitle())
+                .containsExactly("Incident 3", "Incident 2");
+        assertThat(firstPage.pageInfo().hasNextPage()).isTrue();
+        assertThat(firstPage.pageInfo().hasPreviousPage()).isFalse();
+        assertThat(firstPage.pageInfo().startCursor()).isEqualTo(firstPage.edges().get(0).cursor());
+
+        assertThat(secondPage.edges()).extracting(edge -> edge.node().getTitle())
+                .containsExactly("Incident 1");
+        assertThat(secondPage.pageInfo().hasNextPage()).isFalse();
+        assertThat(secondPage.pageInfo().hasPreviousPage()).isTrue();
+    }
+
+    @Test
+    void testQueryIncidentsByStatusConnection() {
+        // Arrange
+        incidentRepository.save(testIncident);  // OPEN
+        incidentRepository.save(Incident.builder()
+                .title("Closed")
+                .priority(Priority.LOW)
+                .status(Status.CLOSED)
+                .build());
+
+        // Act
+        IncidentConnection result = graphQLController.incidentsByStatusConnection(Status.OPEN, null, null);
+
+        // Assert
+        assertThat(result.edges()).hasSize(1);
+        assertThat(result.edges().get(0).node().getStatus()).isEqualTo(Status.OPEN);
+        assertThat(result.pageInfo().hasNextPage()).isFalse();
+    }
+
+    @Test
+    void testQueryIncidentsByAssigneeConnection() {
+        // Arrange
+        incidentRepository.save(testIncident);  // John Doe
+        incidentRepository.save(Incident.builder()
+                .title("Jane's Incident")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .assignee("Jane Doe")
+                .build());
+
+        // Act
+        IncidentConnection result = graphQLController.incidentsByAssigneeConnection("Jane Doe", 10, null);
+
+        // Assert
+        assertThat(result.edges()).hasSize(1);
+        assertThat(result.edges().get(0).node().getAssignee()).isEqualTo("Jane Doe");
+    }
+
     @Test
     void testMutationCreateIncident() {
         // Arrange
@@ -183,6 +319,47 @@ class IncidentGraphQLControllerTest {
         assertThat(result.getStatus()).isEqualTo(Status.OPEN);
     }
 
+    @Test
+    void testMutationCreateIncidents_ReportsInvalidItems() {
+        // Arrange
+        List<IncidentGraphQLController.CreateIncidentInput> inputs = List.of(
+                new IncidentGraphQLController.CreateIncidentInput("First", null, Priority.HIGH, null),
+                new IncidentGraphQLController.CreateIncidentInput(" ", null, null, null),
+                new IncidentGraphQLController.CreateIncidentInput("Third", null, null, "Bob"));
+
+        // Act
+        BulkCreateResult result = graphQLController.createIncidents(inputs);
+
+        // Assert
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BulkCreateResult.ItemResult::success)
+                .containsExactly(true, false, true);
+        assertThat(result.getResults().get(0).incident().getId()).isNotNull();
+        assertThat(result.getResults().get(1).errors()).isNotEmpty();
+        assertThat(result.getResults().get(2).incident().getPriority()).isEqualTo(Priority.LOW);
+        assertThat(incidentRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testMutationUpdateStatuses_ByFilter() {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder().title("Low").priority(Priority.LOW).build());
+        IncidentGraphQLController.IncidentFilterInput filter = new IncidentGraphQLController.IncidentFilterInput(
+                Status.OPEN, Priority.HIGH, null, null, null, null, null, null);
+
+        // Act
+        BulkStatusUpdateResponse result = graphQLController.updateStatuses(null, filter, Status.RESOLVED);
+
+        // Assert
+        assertThat(result.getAffected()).isEqualTo(1);
+        assertThat(result.getSkippedIds()).isEmpty();
+        assertThat(incidentRepository.findByStatus(Status.RESOLVED))
+                .singleElement()
+                .satisfies(incident -> assertThat(incident.getResolvedAt()).isNotNull());
+    }
+
     @Test
     void testMutationUpdateIncident() {
         // Arrange
@@ -252,7 +429,7 @@ class IncidentGraphQLControllerTest {
         }
 
         // Act
-        List<Incident> all = graphQLController.incidents();
+        List<Incident> all = graphQLController.incidents(null, null);
 
         // Assert
         assertThat(all).hasSize(Priority.values().length * Status.values().length);
@@ -290,7 +467,7 @@ class IncidentGraphQLControllerTest {
         Incident saved = incidentRepository.save(testIncident);
 
         // Act
-        Incident result = graphQLController.incident(saved.getId());
+        Incident result = loadIncident(saved.getId());
 
         // Assert - Verify all fields are populated
         assertThat(result).isNotNull();
@@ -303,4 +480,167 @@ class IncidentGraphQLControllerTest {
         assertThat(result.getCreatedAt()).isNotNull();
         assertThat(result.getUpdatedAt()).isNotNull();
     }
+
+    @Test
+    void testQueryAliasedIncidents_ShouldLoadAllIdsInOneQuery() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(incidentRepository.save(Incident.builder().title("Incident " + i).build()).getId());
+        }
+        StringBuilder document = new StringBuilder("{");
+        for (int i = 0; i < ids.size(); i++) {
+            document.append(" i").append(i).append(": incident(id: ").append(ids.get(i)).append(") { id title }");
+        }
+        document.append(" }");
+        Statistics statistics = statistics();
+
+        // Act
+        GraphQlTester.Response response = graphQlTester.document(document.toString()).execute();
+
+        // Assert
+        for (int i = 0; i < ids.size(); i++) {
+            response.path("i" + i + ".title").entity(String.class).isEqualTo("Incident " + i);
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testQueryAliasedIncidents_WithRepeatedAndMissingIds_ShouldStillUseOneQuery() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        String document = "{ a: incident(id: " + saved.getId() + ") { title }"
+                + " b: incident(id: " + saved.getId() + ") { title }"
+                + " missing: incident(id: 999999) { title } }";
+        Statistics statistics = statistics();
+
+        // Act & Assert
+        graphQlTester.document(document).execute()
+                .errors()
+                .satisfy(errors -> {
+                    assertThat(errors).hasSize(1);
+                    assertThat(errors.get(0).getPath()).isEqualTo("missing");
+                })
+                .path("a.title").entity(String.class).isEqualTo("Test Incident")
+                .path("b.title").entity(String.class).isEqualTo("Test Incident")
+                .path("missing").valueIsNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testQueryIncidents_ShouldReturnOnlySelectedFields() {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder().title("Other Incident").status(Status.CLOSED).build());
+
+        // Act & Assert
+        graphQlTester.document("{ incidentsByStatus(status: OPEN) { id title status } }")
+                .execute()
+                .path("incidentsByStatus[*].title").entityList(String.class).containsExactly("Test Incident")
+                .path("incidentsByStatus[0].status").entity(Status.class).isEqualTo(Status.OPEN)
+                .path("incidentsByStatus[0].description").pathDoesNotExist();
+    }
+
+    @Test
+    void testGetIncidentsWithAttributes_ShouldNotLoadUnselectedColumns() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        statistics();
+
+        // Act
+        List<Incident> results = incidentService.getIncidents(
+                IncidentFilter.builder().priority(Priority.HIGH).build(), Set.of("title", "status", "__typename"), 10);
+
+        // Assert
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getId()).isEqualTo(saved.getId());
+        assertThat(results.get(0).getTitle()).isEqualTo("Test Incident");
+        assertThat(results.get(0).getDescription()).isNull();
+        assertThat(results.get(0).getAssignee()).isNull();
+        assertThat(results.get(0).getCreatedAt()).isNull();
+    }
+
+    @Test
+    void testGetIncidentsWithAttributes_ReturnsAtMostLimit() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            incidentRepository.save(Incident.builder().title("Incident " + i).priority(Priority.LOW).build());
+        }
+        IncidentFilter ascending = IncidentFilter.builder().direction(Sort.Direction.ASC).build();
+
+        // Act
+        List<Incident> projected = incidentService.getIncidents(ascending, Set.of("title"), 2);
+        List<Incident> complete = incidentService.getIncidents(ascending, null, 2);
+
+        // Assert
+        assertThat(projected).extracting(Incident::getTitle).containsExactly("Incident 0", "Incident 1");
+        assertThat(complete).extracting(Incident::getTitle).containsExactly("Incident 0", "Incident 1");
+    }
+
+    @Test
+    void testShippedScriptQueries_AreAccepted() {
+        // Arrange
+        incidentRepository.save(testIncident);
+
+        // Act & Assert - the list queries in test_graphql.py and Jenkinsfile.test-graphql
+        Map<String, String> documents = Map.of(
+                "incidents", "{ incidents { id title priority status assignee } }",
+                "incidentsByStatus", "{ incidentsByStatus(status: OPEN) { id title status } }",
+                "incidentsByPriority", "{ incidentsByPriority(priority: CRITICAL) { id title priority } }",
+                "incidentsByAssignee", "{ incidentsByAssignee(assignee: \"Alice\") { id title assignee } }");
+        documents.forEach((field, document) -> graphQlTester.document(document)
+                .execute()
+                .errors().verify()
+                .path(field).hasValue());
+        graphQlTester.document("{ incidents { id title status priority } }")
+                .execute()
+                .errors().verify()
+                .path("incidents[0].title").entity(String.class).isEqualTo("Test Incident");
+    }
+
+    @Test
+    void testSeveralFullLists_ShouldBeRejectedByCostLimit() {
+        // Arrange
+        incidentRepository.save(testIncident);
+        Statistics statistics = statistics();
+        String everyField = "{ id title description priority status assignee createdAt updatedAt resolvedAt }";
+
+        // Act & Assert - each list is costed at max-list-size incidents
+        graphQlTester.document("{ a: incidents " + everyField
+                        + " b: incidentsByStatus(status: OPEN) " + everyField + " }")
+                .execute()
+                .errors()
+                .satisfy(errors -> assertThat(errors).singleElement()
+                        .satisfies(error -> assertThat(error.getMessage()).startsWith("Query cost")));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    /**
+     * Flush pending inserts, detach them and reset Hibernate statistics, so the
+     * returned counters only cover what happens next and every lookup hits the database.
+     */
+    private Statistics statistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    /**
+     * Resolve incident(id:) outside a GraphQL request, with a DataLoader
+     * backed by the same service call as the registered one.
+     */
+    private Incident loadIncident(Long id) {
+        DataLoader<Long, Incident> loader = DataLoaderFactory.newMappedDataLoader(
+                (MappedBatchLoader<Long, Incident>) ids ->
+                        CompletableFuture.completedFuture(incidentService.getIncidentsByIds(ids)));
+        CompletableFuture<Incident> result = graphQLController.incident(id, loader);
+        loader.dispatch();
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            throw (RuntimeException) ex.getCause();
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package com.example.incidenttracker.graphql;
+
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.repository.IncidentRepository;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for automatic persisted queries and the parsed-document cache,
+ * sent over HTTP to the GraphQL endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class PersistedQueryTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PersistedQueryRequestFilter persistedQueryRequestFilter;
+
+    private Incident saved;
+
+    @BeforeEach
+    void setUp() {
+        incidentRepository.deleteAll();
+        saved = incidentRepository.save(Incident.builder().title("Persisted Incident").build());
+    }
+
+    @Test
+    void testHashOnly_UnknownHash_ShouldReturnPersistedQueryNotFound() throws Exception {
+        // Arrange
+        String query = "{ incident(id: " + saved.getId() + ") { title } }";
+
+        // Act & Assert
+        graphQl(persisted(null, sha256(query)))
+                .andExpect(jsonPath("$.errors[0].message").value("PersistedQueryNotFound"))
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void testRegisterThenHashOnly_ShouldExecutePersistedQuery() throws Exception {
+        // Arrange
+        String query = "{ incident(id: " + saved.getId() + ") { title priority } }";
+        String hash = sha256(query);
+
+        // Act & Assert - register with the full query, then send only the hash
+        graphQl(persisted(query, hash))
+                .andExpect(jsonPath("$.data.incident.title").value("Persisted Incident"));
+        graphQl(persisted(null, hash))
+                .andExpect(jsonPath("$.errors").doesNotExist())
+                .andExpect(jsonPath("$.data.incident.title").value("Persisted Incident"))
+                .andExpect(jsonPath("$.data.incident.priority").value("LOW"));
+    }
+
+    @Test
+    void testRegister_WithMismatchedHash_ShouldBeRejected() throws Exception {
+        // Arrange
+        String query = "{ incident(id: " + saved.getId() + ") { title } }";
+
+        // Act & Assert
+        graphQl(persisted(query, sha256("{ incidentStats { total } }")))
+                .andExpect(jsonPath("$.errors[0].message").value("PersistedQueryIdInvalid"))
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void testRepeatedQueryText_ShouldBeServedFromDocumentCache() throws Exception {
+        // Arrange
+        String body = "{\"query\": \"{ incident(id: " + saved.getId() + ") { id assignee } }\"}";
+        double hitsBefore = cacheHits();
+
+        // Act
+        graphQl(body).andExpect(jsonPath("$.data.incident.id").value(saved.getId().toString()));
+        graphQl(body).andExpect(jsonPath("$.data.incident.id").value(saved.getId().toString()));
+
+        // Assert
+        assertThat(cacheHits() - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void testFilteredBody_ShouldNotifyReadListener() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+        request.setContent(persisted(null, sha256("{ incidents { id } }")).getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] allRead = {false};
+
+        // Act
+        persistedQueryRequestFilter.doFilter(request, new MockHttpServletResponse(), (filtered, response) -> {
+            ServletInputStream input = filtered.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        read.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead[0] = true;
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+        });
+
+        // Assert
+        assertThat(allRead[0]).isTrue();
+        assertThat(read.toString(StandardCharsets.UTF_8)).contains(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+    }
+
+    private ResultActions graphQl(String body) throws Exception {
+        MvcResult result = mockMvc.perform(post("/graphql")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "graphqlDocuments")
+                .tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    private static String persisted(String query, String hash) {
+        String extensions = "\"extensions\": {\"persistedQuery\": {\"version\": 1, \"sha256Hash\": \"" + hash + "\"}}";
+        return query == null
+                ? "{" + extensions + "}"
+                : "{\"query\": \"" + query + "\", " + extensions + "}";
+    }
+
+    private static String sha256(String query) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.incidenttracker.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for QueryLimitsInstrumentation.
+ * Runs operations against a small schema with counting resolvers, so it can be
+ * verified that rejected operations never reach a resolver.
+ */
+class QueryLimitsInstrumentationTest {
+
+    private static final String SCHEMA = """
+            type Query {
+                items: [Item!]!
+                page(first: Int): Page!
+                slow: String
+                incidentStats: Stats
+            }
+            type Page { edges: [Edge!]! }
+            type Edge { node: Item! cursor: String! }
+            type Item { id: ID! name: String parent: Item }
+            type Stats { total: Int! }
+            """;
+
+    private final AtomicInteger resolverCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testCost_ListWithoutPaginationUsesMaxListSize() {
+        // Arrange
+        GraphQL graphQL = graphQL(100, 10, Duration.ofSeconds(5));
+
+        // Act
+        ExecutionResult result = graphQL.execute("{ items { id name } }");
+
+        // Assert - root weight 10 + max list size 20 * 2 fields
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(cost(result)).containsEntry("requested", 50L).containsEntry("maximum", 100);
+        assertThat(meterRegistry.get("graphql.query.cost").tag("outcome", "accepted").summary().totalAmount())
+                .isEqualTo(50);
+    }
+
+    @Test
+    void testCost_ConnectionUsesFirstArgument() {
+        // Arrange
+        GraphQL graphQL = graphQL(1000, 10, Duration.ofSeconds(5));
+
+        // Act
+        ExecutionResult result = graphQL.execute("{ page(first: 3) { edges { cursor node { id } } } }");
+
+        // Assert - page 10 + edges (1 + 3 * (cursor 1 + node (1 + id 1)))
+        assertThat(cost(result)).containsEntry("requested", 20L);
+    }
+
+    @Test
+    void testCost_OverMaximum_RejectedBeforeAnyResolverRuns() {
+        // Arrange
+        GraphQL graphQL = graphQL(40, 10, Duration.ofSeconds(5));
+
+        // Act
+        ExecutionResult result = graphQL.execute("{ items { id name } }");
+
+        // Assert
+        assertThat(result.getErrors()).extracting(GraphQLError::getMessage)
+                .singleElement().asString().contains("Query cost 50 exceeds the maximum of 40");
+        assertThat(resolverCalls).hasValue(0);
+        assertThat(meterRegistry.get("graphql.query.cost").tag("outcome", "rejected").summary().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testDepth_OverMaximum_Rejected() {
+        // Arrange
+        GraphQL graphQL = graphQL(100_000, 3, Duration.ofSeconds(5));
+
+        // Act
+        ExecutionResult result = graphQL.execute("{ page(first: 1) { edges { node { parent { id } } } } }");
+
+        // Assert
+        assertThat(result.getErrors()).extracting(GraphQLError::getMessage)
+                .singleElement().asString().contains("Query depth 5 exceeds the maximum of 3");
+        assertThat(resolverCalls).hasValue(0);
+    }
+
+    @Test
+    void testFieldWeights_OverrideRootWeight() {
+        // Arrange
+        GraphQL graphQL = graphQL(100, 10, Duration.ofSeconds(5));
+
+        // Act
+        ExecutionResult result = graphQL.execute("{ incidentStats { total } }");
+
+        // Assert
+        assertThat(cost(result)).containsEntry("requested", 2L);
+    }
+
+    @Test
+    void testIntrospection_IsNotLimited() {
+        // Arrange
+        GraphQL graphQL = graphQL(10, 2, Duration.ofSeconds(5));
+
+        // Act
+        ExecutionResult result = graphQL.execute("{ __schema { types { name fields { name type { name } } } } }");
+
+        // Assert
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    @Test
+    void testTimeout_StopsResolversAfterDeadline() {
+        // Arrange
+        GraphQL graphQL = graphQL(1000, 10, Duration.ofMillis(50));
+
+        // Act
+        ExecutionResult result = graphQL.execute("{ a: slow b: slow }");
+
+        // Assert
+        assertThat(resolverCalls).hasValue(1);
+        assertThat(result.getErrors()).extracting(GraphQLError::getMessage)
+                .containsExactly("Execution timeout of 50ms exceeded");
+        assertThat(meterRegistry.get("graphql.query.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> cost(ExecutionResult result) {
+        return (Map<String, Object>) result.getExtensions().get("cost");
+    }
+
+    private GraphQL graphQL(int maxCost, int maxDepth, Duration timeout) {
+        Map<String, Object> item = Map.of("id", "1", "name", "Item");
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", type -> type
+                        .dataFetcher("items", env -> counted(List.of(item)))
+                        .dataFetcher("page", env -> counted(Map.of("edges", List.of(Map.of("node", item, "cursor", "c")))))
+                        .dataFetcher("incidentStats", env -> counted(Map.of("total", 1)))
+                        .dataFetcher("slow", env -> {
+                            resolverCalls.incrementAndGet();
+                            Thread.sleep(100);
+                            return "done";
+                        }))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator()
+                .makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+
+        QueryLimitsInstrumentation instrumentation = new QueryLimitsInstrumentation(
+                maxCost, maxDepth, 20, timeout, meterRegistry);
+        return GraphQL.newGraphQL(schema).instrumentation(instrumentation).build();
+    }
+
+    private <T> T counted(T value) {
+        resolverCalls.incrementAndGet();
+        return value;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.incidenttracker.importer;
+
+import com.example.incidenttracker.importer.CsvRecordReader.CsvRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CsvRecordReader.
+ * Verifies RFC 4180 quoting, line endings and line number tracking.
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    void testReadsPlainRecords() throws IOException {
+        // Act
+        List<CsvRecord> records = readAll("title,priority\nDisk full,HIGH\n");
+
+        // Assert
+        assertThat(records).extracting(CsvRecord::fields)
+                .containsExactly(List.of("title", "priority"), List.of("Disk full", "HIGH"));
+    }
+
+    @Test
+    void testReadsQuotedFieldsWithCommasQuotesAndLineBreaks() throws IOException {
+        // Act
+        List<CsvRecord> records = readAll("title,description\r\n"
+                + "\"Slow, then down\",\"He said \"\"reboot\"\"\nthen left\"\r\n"
+                + "Next,\r\n");
+
+        // Assert
+        assertThat(records).hasSize(3);
+        assertThat(records.get(1).fields()).containsExactly("Slow, then down", "He said \"reboot\"\nthen left");
+        assertThat(records.get(2).fields()).containsExactly("Next", "");
+        assertThat(records).extracting(CsvRecord::line).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void testSkipsByteOrderMarkAndHandlesMissingFinalNewline() throws IOException {
+        // Act
+        List<CsvRecord> records = readAll("\uFEFFtitle\nLast");
+
+        // Assert
+        assertThat(records).extracting(CsvRecord::fields)
+                .containsExactly(List.of("title"), List.of("Last"));
+    }
+
+    @Test
+    void testGet_ReturnsNullBeyondLastField() throws IOException {
+        // Act
+        CsvRecord record = readAll("a,b\n").get(0);
+
+        // Assert
+        assertThat(record.get(1)).isEqualTo("b");
+        assertThat(record.get(2)).isNull();
+        assertThat(record.get(-1)).isNull();
+    }
+
+    @Test
+    void testUnterminatedQuote_Throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> readAll("title\n\"never closed\n"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    private static List<CsvRecord> readAll(String csv) throws IOException {
+        List<CsvRecord> records = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            CsvRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.incidenttracker.importer;
+
+import com.example.incidenttracker.dto.ImportResult;
+import com.example.incidenttracker.exception.ValidationException;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.stats.IncidentCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for IncidentImportService.
+ * Runs the CSV pipeline against the in-memory H2 database, where rows are
+ * written with JDBC batches instead of COPY.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class IncidentImportServiceTest {
+
+    @Autowired
+    private IncidentImportService importService;
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @Autowired
+    private IncidentCounters incidentCounters;
+
+    @BeforeEach
+    void setUp() {
+        incidentRepository.deleteAll();
+    }
+
+    @Test
+    void testImportSampleFile() throws IOException {
+        // Arrange
+        Path sample = Path.of("data/incidents_import.csv");
+        long rows = Files.readAllLines(sample).stream().skip(1).filter(line -> !line.isBlank()).count();
+
+        // Act
+        ImportResult result;
+        try (InputStream input = Files.newInputStream(sample)) {
+            result = importService.importCsv(input, sample.toString());
+        }
+
+        // Assert
+        assertThat(result.getRead()).isEqualTo(rows);
+        assertThat(result.getImported()).isEqualTo(rows);
+        assertThat(result.getRejected()).isZero();
+        assertThat(result.getQuarantineFile()).isNull();
+        assertThat(incidentRepository.count()).isEqualTo(rows);
+    }
+
+    @Test
+    void testImport_AppliesDefaultsAndQuoting() {
+        // Arrange
+        String csv = "assignee,title,description\n"
+                + "Alice,\"Disk full, again\",\"Says \"\"no space\"\"\"\n";
+
+        // Act
+        ImportResult result = importCsv(csv);
+
+        // Assert
+        assertThat(result.getImported()).isEqualTo(1);
+        Incident incident = incidentRepository.findAll().get(0);
+        assertThat(incident.getId()).isNotNull();
+        assertThat(incident.getTitle()).isEqualTo("Disk full, again");
+        assertThat(incident.getDescription()).isEqualTo("Says \"no space\"");
+        assertThat(incident.getAssignee()).isEqualTo("Alice");
+        assertThat(incident.getPriority()).isEqualTo(Priority.LOW);
+        assertThat(incident.getStatus()).isEqualTo(Status.OPEN);
+        assertThat(incident.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void testImport_QuarantinesInvalidRows() throws IOException {
+        // Arrange
+        String csv = "title,priority,status\n"
+                + "Valid,HIGH,OPEN\n"
+                + ",LOW,OPEN\n"
+                + "Bad priority,URGENT,OPEN\n"
+                + "Bad status,LOW,DONE\n"
+                + "Also valid,critical,resolved\n";
+
+        // Act
+        ImportResult result = importCsv(csv);
+
+        // Assert
+        assertThat(result.getRead()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::line).containsExactly(3L, 4L, 5L);
+        assertThat(result.getErrors()).extracting(ImportResult.RowError::message)
+                .containsExactly("Title is required", "Invalid priority: URGENT", "Invalid status: DONE");
+        assertThat(incidentRepository.findByPriority(Priority.CRITICAL))
+                .singleElement()
+                .satisfies(incident -> assertThat(incident.getStatus()).isEqualTo(Status.RESOLVED));
+
+        List<String> quarantined = Files.readAllLines(Path.of(result.getQuarantineFile()));
+        assertThat(quarantined).hasSize(4);
+        assertThat(quarantined.get(0)).isEqualTo("\"title\",\"priority\",\"status\",\"line\",\"error\"");
+        assertThat(quarantined.get(2)).contains("\"URGENT\"", "\"4\"", "Invalid priority: URGENT");
+    }
+
+    @Test
+    void testImport_ManyRowsAcrossBatches() {
+        // Arrange
+        StringBuilder csv = new StringBuilder("title,description,priority,status,assignee\n");
+        for (int i = 0; i < 25_000; i++) {
+            csv.append("Incident ").append(i).append(",Generated row,MEDIUM,OPEN,user").append(i % 50).append('\n');
+        }
+
+        // Act
+        ImportResult result = importCsv(csv.toString());
+
+        // Assert
+        assertThat(result.getImported()).isEqualTo(25_000);
+        assertThat(result.getRowsPerSecond()).isPositive();
+        assertThat(incidentRepository.count()).isEqualTo(25_000);
+    }
+
+    @Test
+    void testImport_WithoutTitleColumn_Throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> importCsv("name,priority\nx,LOW\n"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("title");
+    }
+
+    @Test
+    void testImport_FailingAfterCommittedBatch_StillRefreshesViews() {
+        // Arrange: one full batch, then a row the reader cannot parse
+        StringBuilder csv = new StringBuilder("title,priority,status\n");
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("Incident ").append(i).append(",HIGH,OPEN\n");
+        }
+        csv.append("\"Unterminated,LOW,OPEN\n");
+
+        // Act
+        assertThatThrownBy(() -> importCsv(csv.toString())).isInstanceOf(ValidationException.class);
+
+        // Assert
+        assertThat(incidentRepository.count()).isEqualTo(10_000);
+        assertThat(incidentCounters.snapshot().getTotal()).isEqualTo(10_000);
+    }
+
+    private ImportResult importCsv(String csv) {
+        return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "test.csv");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.incidenttracker.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SamplingTurboFilter, on a standalone logback context.
+ */
+class SamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggerPrefix("com.example.incidenttracker.controller");
+        filter.setRate(5);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void testDecide_ShouldKeepOneInRateEventsOfMatchingLoggers() {
+        // Arrange
+        Logger controller = context.getLogger("com.example.incidenttracker.controller.IncidentController");
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            controller.info("GET /api/incidents {}", i);
+        }
+
+        // Assert
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("GET /api/incidents 0", "GET /api/incidents 5",
+                                 "GET /api/incidents 10", "GET /api/incidents 15");
+    }
+
+    @Test
+    void testDecide_ShouldPassWarningsAndOtherLoggers() {
+        // Arrange
+        Logger controller = context.getLogger("com.example.incidenttracker.controller.IncidentController");
+        Logger service = context.getLogger("com.example.incidenttracker.service.impl.IncidentServiceImpl");
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            controller.warn("warning {}", i);
+            service.info("service {}", i);
+        }
+
+        // Assert
+        assertThat(appender.list).hasSize(10);
+    }
+
+    @Test
+    void testDecide_ShouldNotSampleEnabledChecks() {
+        // Arrange
+        Logger controller = context.getLogger("com.example.incidenttracker.controller.IncidentController");
+
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertThat(controller.isDebugEnabled()).isTrue();
+        }
+        controller.debug("first");
+        assertThat(appender.list).extracting(ILoggingEvent::getMessage).containsExactly("first");
+    }
+}
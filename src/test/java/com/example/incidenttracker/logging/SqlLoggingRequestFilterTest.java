@@ -0,0 +1,77 @@
+package com.example.incidenttracker.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for per-request SQL logging through the X-Debug-SQL header.
+ * The SQL logger is raised to INFO, as in the prod profile, for the duration of each test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class SqlLoggingRequestFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Logger sqlLogger;
+    private Level previousLevel;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        sqlLogger = (Logger) LoggerFactory.getLogger("org.hibernate.SQL");
+        previousLevel = sqlLogger.getLevel();
+        sqlLogger.setLevel(Level.INFO);
+
+        appender = new ListAppender<>();
+        appender.start();
+        sqlLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlLogger.detachAppender(appender);
+        sqlLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void testRequestWithoutHeader_ShouldNotLogSql() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/incidents")).andExpect(status().isOk());
+
+        // Assert
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void testRequestWithHeader_ShouldLogSqlOfThatRequestOnly() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/incidents").header("X-Debug-SQL", "true")).andExpect(status().isOk());
+        int logged = appender.list.size();
+        mockMvc.perform(get("/api/incidents?limit=5")).andExpect(status().isOk());
+
+        // Assert
+        assertThat(logged).isPositive();
+        assertThat(appender.list).hasSize(logged);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("incidents");
+    }
+}
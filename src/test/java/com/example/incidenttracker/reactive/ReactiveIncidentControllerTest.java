@@ -0,0 +1,1121 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.controller.IncidentController;
+import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.search.IncidentSearch;
+import com.example.incidenttracker.stats.IncidentCounters;
+import com.example.incidenttracker.stats.OverdueIncidents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the reactive REST API.
+ * Runs the WebFlux + R2DBC stack against the in-memory H2 database; data is seeded
+ * through JPA, so these tests are not transactional and clean up in setUp.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+class ReactiveIncidentControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @Autowired
+    private IncidentSearch incidentSearch;
+
+    @Autowired
+    private IncidentCounters incidentCounters;
+
+    @Autowired
+    private OverdueIncidents overdueIncidents;
+
+    private Incident testIncident;
+
+    @BeforeEach
+    void setUp() {
+        incidentRepository.deleteAll();
+
+        testIncident = Incident.builder()
+                .title("Test Incident")
+                .description("Test Description")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .assignee("John Doe")
+                .build();
+    }
+
+    @Test
+    void testCreateIncident_WithValidData_ShouldReturn201() {
+        // Arrange
+        IncidentRequest request = IncidentRequest.builder()
+                .title("Database Connection Slow")
+                .description("Queries are taking longer than usual")
+                .priority(Priority.HIGH)
+                .assignee("Alice")
+                .build();
+
+        // Act & Assert
+        IncidentResponse created = webTestClient.post().uri("/api/incidents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(IncidentResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(created).isNotNull();
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getStatus()).isEqualTo(Status.OPEN);
+        assertThat(created.getCreatedAt()).isNotNull();
+        assertThat(incidentRepository.findById(created.getId()))
+                .hasValueSatisfying(incident -> assertThat(incident.getTitle()).isEqualTo("Database Connection Slow"));
+    }
+
+    @Test
+    void testCreateIncident_WithBlankTitle_ShouldReturn400() {
+        // Arrange
+        IncidentRequest request = IncidentRequest.builder().title("").build();
+
+        // Act & Assert
+        webTestClient.post().uri("/api/incidents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.validationErrors").isNotEmpty();
+    }
+
+    @Test
+    void testCreateIncident_WithTitleTooLong_ShouldReturn400() {
+        // Arrange
+        IncidentRequest request = IncidentRequest.builder().title("a".repeat(201)).build();
+
+        // Act & Assert
+        webTestClient.post().uri("/api/incidents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.validationErrors").isArray();
+    }
+
+    @Test
+    void testCreateMultipleIncidents_ShouldPersistAll() {
+        // Arrange
+        for (int i = 1; i <= 3; i++) {
+            IncidentRequest request = IncidentRequest.builder()
+                    .title("Incident " + i)
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .build();
+
+            webTestClient.post().uri("/api/incidents")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3);
+    }
+
+    @Test
+    void testGetAllIncidents_ShouldReturnList() {
+        // Arrange
+        incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Incident")
+                .jsonPath("$[0].priority").isEqualTo("HIGH");
+    }
+
+    @Test
+    void testGetAllIncidents_Empty_ShouldReturnEmptyList() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    void testGetAllIncidents_WithStatusFilter_ShouldReturnFiltered() {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Resolved Incident")
+                .priority(Priority.LOW)
+                .status(Status.RESOLVED)
+                .build());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?status=OPEN&includeTotal=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(IncidentController.TOTAL_COUNT_HEADER, "1")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Incident");
+    }
+
+    @Test
+    void testGetAllIncidents_WithPriorityFilter_ShouldReturnFiltered() {
+        // Arrange
+        incidentRepository.save(testIncident);  // HIGH
+        incidentRepository.save(Incident.builder()
+                .title("Low Priority")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?priority=HIGH")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].priority").isEqualTo("HIGH");
+    }
+
+    @Test
+    void testGetAllIncidents_WithBothFilters_ShouldReturnFiltered() {
+        // Arrange
+        incidentRepository.save(testIncident);  // HIGH + OPEN
+        incidentRepository.save(Incident.builder()
+                .title("Closed Critical")
+                .priority(Priority.CRITICAL)
+                .status(Status.CLOSED)
+                .build());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?status=OPEN&priority=HIGH")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Incident");
+    }
+
+    @Test
+    void testGetAllIncidents_WithAssigneeAndCreatedRange_ShouldReturnFiltered() {
+        // Arrange
+        incidentRepository.save(testIncident);  // John Doe
+        incidentRepository.save(Incident.builder()
+                .title("Someone Else's")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .assignee("Jane Doe")
+                .build());
+        String from = LocalDateTime.now().minusHours(1).toString();
+        String to = LocalDateTime.now().plusHours(1).toString();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?assignee={assignee}&createdFrom={from}&createdTo={to}", "John Doe", from, to)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Incident");
+
+        webTestClient.get().uri("/api/incidents?assignee={assignee}&createdTo={to}", "John Doe", from)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    void testGetAllIncidents_WithResolvedRange_ShouldReturnFiltered() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Resolved Yesterday")
+                .priority(Priority.LOW)
+                .status(Status.RESOLVED)
+                .resolvedAt(now.minusDays(1))
+                .build());
+        incidentRepository.save(Incident.builder()
+                .title("Resolved Last Week")
+                .priority(Priority.LOW)
+                .status(Status.RESOLVED)
+                .resolvedAt(now.minusDays(7))
+                .build());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?resolvedFrom={from}&resolvedTo={to}",
+                        now.minusDays(2).toString(), now.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Resolved Yesterday");
+    }
+
+    @Test
+    void testGetAllIncidents_WithAscendingDirection_ShouldReturnOldestFirst() {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Newer Incident")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?direction=ASC")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].title").isEqualTo("Test Incident")
+                .jsonPath("$[1].title").isEqualTo("Newer Incident");
+    }
+
+    @Test
+    void testGetAllIncidents_WithCurrentETag_ShouldReturn304UntilFilteredSetChanges() {
+        // Arrange
+        incidentRepository.save(testIncident);
+        String eTag = webTestClient.get().uri("/api/incidents?status=OPEN&includeTotal=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(IncidentController.TOTAL_COUNT_HEADER, "1")
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .expectBody()
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?status=OPEN")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        // Incidents outside the filter leave the fingerprint alone
+        incidentRepository.save(Incident.builder().title("Closed").priority(Priority.LOW).status(Status.CLOSED).build());
+        webTestClient.get().uri("/api/incidents?status=OPEN")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        incidentRepository.save(Incident.builder().title("Another").priority(Priority.LOW).status(Status.OPEN).build());
+        String newETag = webTestClient.get().uri("/api/incidents?status=OPEN")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(newETag).isNotNull().isNotEqualTo(eTag);
+    }
+
+    @Test
+    void testGetAllIncidents_WithoutValidatorOrTotal_ShouldNotSendListETag() {
+        // Arrange
+        incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?status=OPEN")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.ETAG)
+                .expectHeader().doesNotExist(IncidentController.TOTAL_COUNT_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @Test
+    void testGetAllIncidents_WithLimit_ShouldReturnPagesByCursor() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (int i = 0; i < 5; i++) {
+            incidentRepository.save(Incident.builder()
+                    .title("Incident " + i)
+                    .createdAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        // Act
+        var first = webTestClient.get().uri("/api/incidents?limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(IncidentResponse.class)
+                .returnResult();
+        String cursor = first.getResponseHeaders().getFirst(IncidentController.NEXT_CURSOR_HEADER);
+
+        var second = webTestClient.get().uri("/api/incidents?limit=3&cursor={cursor}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(IncidentResponse.class)
+                .returnResult();
+
+        // Assert
+        assertThat(first.getResponseBody()).extracting(IncidentResponse::getTitle)
+                .containsExactly("Incident 4", "Incident 3", "Incident 2");
+        assertThat(cursor).isNotNull();
+        assertThat(second.getResponseBody()).extracting(IncidentResponse::getTitle)
+                .containsExactly("Incident 1", "Incident 0");
+        assertThat(second.getResponseHeaders().containsKey(IncidentController.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    @Test
+    void testGetAllIncidents_WithAscendingCursor_ShouldContinueAfterLastItem() {
+        // Arrange - equal createdAt, so the id breaks the tie
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (int i = 0; i < 3; i++) {
+            incidentRepository.save(Incident.builder().title("Incident " + i).createdAt(createdAt).build());
+        }
+
+        // Act
+        var first = webTestClient.get().uri("/api/incidents?direction=ASC&limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(IncidentResponse.class)
+                .returnResult();
+        String cursor = first.getResponseHeaders().getFirst(IncidentController.NEXT_CURSOR_HEADER);
+
+        var second = webTestClient.get().uri("/api/incidents?direction=ASC&limit=2&cursor={cursor}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(IncidentResponse.class)
+                .returnResult();
+
+        // Assert
+        assertThat(first.getResponseBody()).extracting(IncidentResponse::getTitle)
+                .containsExactly("Incident 0", "Incident 1");
+        assertThat(second.getResponseBody()).extracting(IncidentResponse::getTitle)
+                .containsExactly("Incident 2");
+        assertThat(second.getResponseHeaders().containsKey(IncidentController.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    @Test
+    void testGetAllIncidents_WithIncludeTotal_ShouldReturnTotalCountHeader() {
+        // Arrange
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Another Open")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?status=OPEN&limit=1&includeTotal=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(IncidentController.TOTAL_COUNT_HEADER, "2")
+                .expectHeader().exists(IncidentController.NEXT_CURSOR_HEADER)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @Test
+    void testGetAllIncidents_WithInvalidCursor_ShouldReturn400() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?cursor=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").value(message -> assertThat((String) message).contains("Invalid cursor"));
+    }
+
+    @Test
+    void testGetAllIncidents_WithZeroLimit_ShouldReturn400() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?limit=0")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Limit must be at least 1");
+    }
+
+    @Test
+    void testGetAllIncidents_WithUnknownStatus_ShouldReturn400() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents?status=UNKNOWN")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    void testExportIncidents_AsNdjson_ShouldStreamOneLinePerIncident() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            incidentRepository.save(Incident.builder().title("Export " + i).build());
+        }
+
+        // Act
+        List<IncidentResponse> exported = webTestClient.get().uri("/api/incidents/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(IncidentResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertThat(exported).extracting(IncidentResponse::getTitle)
+                .containsExactly("Export 0", "Export 1", "Export 2");
+    }
+
+    @Test
+    void testExportIncidents_AsJsonArrayWithFilter_ShouldStreamMatchingIncidents() {
+        // Arrange
+        incidentRepository.save(testIncident);  // HIGH
+        incidentRepository.save(Incident.builder()
+                .title("Low Priority")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/export?format=json&priority=HIGH")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].priority").isEqualTo("HIGH");
+    }
+
+    @Test
+    void testExportIncidents_WithUnknownFormat_ShouldReturn400() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/export?format=xml")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Unsupported export format: xml");
+    }
+
+    @Test
+    void testGetIncidentStats_ShouldReturnCountsPerDimension() {
+        // Arrange
+        incidentRepository.save(testIncident);  // HIGH + OPEN + John Doe
+        incidentRepository.save(Incident.builder()
+                .title("Unassigned")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .build());
+        incidentCounters.reconcile();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.byStatus[?(@.status == 'OPEN')].count").isEqualTo(2)
+                .jsonPath("$.byPriority[?(@.priority == 'HIGH')].count").isEqualTo(1)
+                .jsonPath("$.byAssignee[?(@.assignee == 'John Doe')].count").isEqualTo(1)
+                .jsonPath("$.breakdown.length()").isEqualTo(2)
+                .jsonPath("$.reconciledAt").isNotEmpty();
+    }
+
+    @Test
+    void testGetIncidentStats_ShouldFollowReactiveWrites() {
+        // Arrange
+        incidentCounters.reconcile();
+        IncidentResponse created = webTestClient.post().uri("/api/incidents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(IncidentRequest.builder().title("Counted").priority(Priority.CRITICAL).build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(IncidentResponse.class)
+                .returnResult().getResponseBody();
+        webTestClient.post().uri("/api/incidents/{id}/transition", created.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"expectedStatus\": \"OPEN\", \"newStatus\": \"IN_PROGRESS\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(1)
+                .jsonPath("$.byStatus[?(@.status == 'IN_PROGRESS')].count").isEqualTo(1)
+                .jsonPath("$.byPriority[?(@.priority == 'CRITICAL')].count").isEqualTo(1);
+    }
+
+    @Test
+    void testGetOverdueIncidents_ShouldReturnOldOpenIncidentsOnly() {
+        // Arrange
+        testIncident.setCreatedAt(LocalDateTime.now().minusDays(10));
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Old But Resolved")
+                .priority(Priority.HIGH)
+                .status(Status.RESOLVED)
+                .createdAt(LocalDateTime.now().minusDays(10))
+                .build());
+        incidentRepository.save(Incident.builder()
+                .title("Recent")
+                .priority(Priority.LOW)
+                .status(Status.OPEN)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .build());
+        overdueIncidents.rebuild();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/overdue")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Test Incident");
+
+        webTestClient.get().uri("/api/incidents/overdue?days=0&priority=LOW")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Recent");
+    }
+
+    @Test
+    void testGetOverdueIncidents_WithNegativeDays_ShouldReturn400() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/overdue?days=-1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Days must not be negative");
+    }
+
+    @Test
+    void testSearchIncidents_ShouldEscapeMarkupInHighlights() {
+        // Arrange
+        testIncident.setTitle("<script>steal()</script> timeout");
+        incidentRepository.save(testIncident);
+        incidentSearch.rebuild();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/search?q=timeout")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].titleHighlight").isEqualTo("&lt;script&gt;steal()&lt;/script&gt; <mark>timeout</mark>");
+    }
+
+    @Test
+    void testSearchIncidents_ShouldRankTitleMatchesFirstAndHighlight() {
+        // Arrange
+        testIncident.setTitle("Gateway timeout on checkout");
+        testIncident.setDescription("Upstream returned 503 after 30s");
+        incidentRepository.save(testIncident);
+        incidentRepository.save(Incident.builder()
+                .title("Checkout errors")
+                .description("Intermittent timeout, clients see 503")
+                .priority(Priority.LOW)
+                .status(Status.RESOLVED)
+                .build());
+        incidentRepository.save(Incident.builder()
+                .title("Login timeout")
+                .priority(Priority.MEDIUM)
+                .status(Status.OPEN)
+                .build());
+        incidentSearch.rebuild();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/search?q={q}", "Timeout 503")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].incident.title").isEqualTo("Gateway timeout on checkout")
+                .jsonPath("$[0].titleHighlight").isEqualTo("Gateway <mark>timeout</mark> on checkout")
+                .jsonPath("$[0].descriptionHighlight").isEqualTo("Upstream returned <mark>503</mark> after 30s")
+                .jsonPath("$[1].incident.title").isEqualTo("Checkout errors");
+
+        webTestClient.get().uri("/api/incidents/search?q=timeout&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @Test
+    void testSearchIncidents_WithBlankQuery_ShouldReturn400() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/search?q={q}", " ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Search query must not be blank");
+    }
+
+    @Test
+    void testSearchIncidents_ShouldFollowReactiveWrites() {
+        // Arrange
+        incidentSearch.rebuild();
+        IncidentResponse created = webTestClient.post().uri("/api/incidents")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(IncidentRequest.builder().title("Cache stampede").priority(Priority.HIGH).build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(IncidentResponse.class)
+                .returnResult().getResponseBody();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/search?q=stampede")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].incident.id").isEqualTo(created.getId());
+
+        webTestClient.patch().uri("/api/incidents/{id}", created.getId())
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"title\": \"Cache eviction storm\"}")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/incidents/search?q=stampede")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+
+        webTestClient.delete().uri("/api/incidents/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+        webTestClient.get().uri("/api/incidents/search?q=eviction")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    @Test
+    void testGetIncidentById_WhenExists_ShouldReturn200() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(saved.getId())
+                .jsonPath("$.title").isEqualTo("Test Incident")
+                .jsonPath("$.description").isEqualTo("Test Description")
+                .jsonPath("$.priority").isEqualTo("HIGH")
+                .jsonPath("$.status").isEqualTo("OPEN")
+                .jsonPath("$.assignee").isEqualTo("John Doe")
+                .jsonPath("$.createdAt").isNotEmpty()
+                .jsonPath("$.updatedAt").isNotEmpty()
+                .jsonPath("$.resolvedAt").doesNotExist();
+    }
+
+    @Test
+    void testGetIncidentById_WithCurrentETag_ShouldReturn304UntilModified() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        String eTag = webTestClient.get().uri("/api/incidents/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .expectBody(IncidentResponse.class)
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                .expectBody().isEmpty();
+
+        webTestClient.patch().uri("/api/incidents/{id}/status", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("\"IN_PROGRESS\"")
+                .exchange()
+                .expectStatus().isOk();
+
+        String newETag = webTestClient.get().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("IN_PROGRESS")
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(newETag).isNotNull().isNotEqualTo(eTag);
+    }
+
+    @Test
+    void testGetIncidentById_WithETagOfMissingIncident_ShouldReturn404() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/999999")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\"")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testGetIncidentById_WhenNotExists_ShouldReturn404() {
+        // Act & Assert
+        webTestClient.get().uri("/api/incidents/999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Incident not found with id: 999999")
+                .jsonPath("$.path").isEqualTo("/api/incidents/999999");
+    }
+
+    @Test
+    void testUpdateIncident_WithValidData_ShouldReturn200() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        IncidentRequest request = IncidentRequest.builder()
+                .title("Updated Title")
+                .priority(Priority.CRITICAL)
+                .status(Status.IN_PROGRESS)
+                .assignee("Jane")
+                .build();
+
+        // Act & Assert
+        webTestClient.put().uri("/api/incidents/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Updated Title")
+                .jsonPath("$.priority").isEqualTo("CRITICAL")
+                .jsonPath("$.status").isEqualTo("IN_PROGRESS");
+    }
+
+    @Test
+    void testUpdateIncident_WhenNotExists_ShouldReturn404() {
+        // Act & Assert
+        webTestClient.put().uri("/api/incidents/999999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(IncidentRequest.builder().title("Updated").build())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    void testPatchIncident_WithMergePatch_ShouldChangeOnlyGivenFields() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.patch().uri("/api/incidents/{id}", saved.getId())
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"assignee\": \"Bob\", \"description\": null, \"status\": \"RESOLVED\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"v" + (saved.getVersion() + 1) + "\"")
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Test Incident")
+                .jsonPath("$.priority").isEqualTo("HIGH")
+                .jsonPath("$.assignee").isEqualTo("Bob")
+                .jsonPath("$.description").doesNotExist()
+                .jsonPath("$.status").isEqualTo("RESOLVED")
+                .jsonPath("$.resolvedAt").isNotEmpty();
+
+        assertThat(incidentRepository.findById(saved.getId()))
+                .hasValueSatisfying(incident -> {
+                    assertThat(incident.getAssignee()).isEqualTo("Bob");
+                    assertThat(incident.getDescription()).isNull();
+                    assertThat(incident.getResolvedAt()).isNotNull();
+                    assertThat(incident.getVersion()).isEqualTo(saved.getVersion() + 1);
+                });
+    }
+
+    @Test
+    void testPatchIncident_WithoutChanges_ShouldKeepVersion() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.patch().uri("/api/incidents/{id}", saved.getId())
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"assignee\": \"John Doe\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"v" + saved.getVersion() + "\"");
+    }
+
+    @Test
+    void testPatchIncident_WithInvalidResult_ShouldReturn400() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.patch().uri("/api/incidents/{id}", saved.getId())
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"title\": \"\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.patch().uri("/api/incidents/{id}", saved.getId())
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"priority\": null}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Priority and status must not be null");
+        webTestClient.patch().uri("/api/incidents/{id}", saved.getId())
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("[]")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testPatchIncident_WhenNotExists_ShouldReturn404() {
+        // Act & Assert
+        webTestClient.patch().uri("/api/incidents/999999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"assignee\": \"Bob\"}")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testPatchIncident_WithStaleIfMatch_ShouldReturn409() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        String eTag = "\"v" + saved.getVersion() + "\"";
+        webTestClient.patch().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"assignee\": \"Bob\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        // Act & Assert
+        webTestClient.patch().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.valueOf(IncidentController.MERGE_PATCH_JSON_VALUE))
+                .bodyValue("{\"assignee\": \"Carol\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409);
+
+        assertThat(incidentRepository.findById(saved.getId()))
+                .hasValueSatisfying(incident -> assertThat(incident.getAssignee()).isEqualTo("Bob"));
+    }
+
+    @Test
+    void testUpdateIncident_WithIfMatch_ShouldRejectStaleVersionWith409() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        String eTag = "\"v" + saved.getVersion() + "\"";
+        IncidentRequest request = IncidentRequest.builder()
+                .title("Updated Title")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .build();
+        IncidentRequest reassign = IncidentRequest.builder()
+                .title("Updated Title")
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .assignee("Bob")
+                .build();
+
+        // Act & Assert
+        String newETag = webTestClient.put().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(IncidentResponse.class)
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(newETag).isNotNull().isNotEqualTo(eTag);
+
+        webTestClient.put().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(reassign)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(409);
+
+        webTestClient.put().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_MATCH, newETag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(reassign)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Updated Title")
+                .jsonPath("$.assignee").isEqualTo("Bob");
+    }
+
+    @Test
+    void testUpdateIncident_WithMalformedIfMatch_ShouldReturn400() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.put().uri("/api/incidents/{id}", saved.getId())
+                .header(HttpHeaders.IF_MATCH, "W/\"v0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(IncidentRequest.builder().title("Updated").build())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testTransitionStatus_ShouldApplyOnlyFromExpectedStatus() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+        String transition = "{\"expectedStatus\": \"OPEN\", \"newStatus\": \"RESOLVED\"}";
+
+        // Act & Assert
+        webTestClient.post().uri("/api/incidents/{id}/transition", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transition)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"v" + (saved.getVersion() + 1) + "\"")
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("RESOLVED")
+                .jsonPath("$.title").isEqualTo("Test Incident")
+                .jsonPath("$.resolvedAt").isNotEmpty();
+
+        webTestClient.post().uri("/api/incidents/{id}/transition", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transition)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.message").value(message -> assertThat((String) message).contains("RESOLVED"));
+
+        webTestClient.post().uri("/api/incidents/999999/transition")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transition)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.post().uri("/api/incidents/{id}/transition", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"newStatus\": \"CLOSED\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        assertThat(incidentRepository.findById(saved.getId()))
+                .hasValueSatisfying(incident -> {
+                    assertThat(incident.getStatus()).isEqualTo(Status.RESOLVED);
+                    assertThat(incident.getResolvedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void testUpdateStatus_ToResolved_ShouldSetResolvedAt() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.patch().uri("/api/incidents/{id}/status", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("\"RESOLVED\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("RESOLVED")
+                .jsonPath("$.resolvedAt").isNotEmpty();
+
+        assertThat(incidentRepository.findById(saved.getId()))
+                .hasValueSatisfying(incident -> assertThat(incident.getResolvedAt()).isNotNull());
+    }
+
+    @Test
+    void testUpdateStatus_WhenNotExists_ShouldReturn404() {
+        // Act & Assert
+        webTestClient.patch().uri("/api/incidents/999999/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("\"CLOSED\"")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testUpdateStatus_AllStatuses_ShouldSucceed() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        for (Status status : new Status[] {Status.IN_PROGRESS, Status.RESOLVED, Status.CLOSED}) {
+            // Act & Assert
+            webTestClient.patch().uri("/api/incidents/{id}/status", saved.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("\"" + status + "\"")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(status.toString());
+        }
+    }
+
+    @Test
+    void testDeleteIncident_WhenExists_ShouldReturn204() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident);
+
+        // Act & Assert
+        webTestClient.delete().uri("/api/incidents/{id}", saved.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertThat(incidentRepository.existsById(saved.getId())).isFalse();
+    }
+
+    @Test
+    void testDeleteIncident_WhenNotExists_ShouldReturn404() {
+        // Act & Assert
+        webTestClient.delete().uri("/api/incidents/999999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Incident not found with id: 999999");
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.incidenttracker.reactive;
+
+import com.example.incidenttracker.graphql.IncidentGraphQLController.CreateIncidentInput;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the reactive GraphQL resolvers, executed over HTTP through WebFlux.
+ */
+@SpringBootTest
+@AutoConfigureHttpGraphQlTester
+@ActiveProfiles({"test", "reactive"})
+class ReactiveIncidentGraphQLControllerTest {
+
+    @Autowired
+    private HttpGraphQlTester graphQlTester;
+
+    @Autowired
+    private ReactiveIncidentGraphQLController graphQLController;
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @BeforeEach
+    void setUp() {
+        incidentRepository.deleteAll();
+    }
+
+    @Test
+    void testQueryIncidentsConnection_ShouldPageByCursor() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            incidentRepository.save(Incident.builder().title("Incident " + i).priority(Priority.HIGH).build());
+        }
+
+        // Act & Assert
+        graphQlTester.document("{ incidentsConnection(first: 2) { edges { node { title } } pageInfo { hasNextPage } } }")
+                .execute()
+                .path("incidentsConnection.edges[*].node.title").entityList(String.class).containsExactly("Incident 2", "Incident 1")
+                .path("incidentsConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true);
+    }
+
+    @Test
+    void testMutationCreateAndUpdateStatus() {
+        // Act
+        ReactiveIncident created = graphQLController
+                .createIncident(new CreateIncidentInput("GraphQL Incident", null, null, "Bob"))
+                .block();
+        ReactiveIncident resolved = graphQLController.updateStatus(created.getId(), Status.RESOLVED).block();
+
+        // Assert
+        assertThat(created.getPriority()).isEqualTo(Priority.LOW);
+        assertThat(resolved.getStatus()).isEqualTo(Status.RESOLVED);
+        assertThat(resolved.getResolvedAt()).isNotNull();
+        assertThat(incidentRepository.findById(created.getId()))
+                .hasValueSatisfying(incident -> assertThat(incident.getStatus()).isEqualTo(Status.RESOLVED));
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.incidenttracker.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Query plan tests for the indexes created by the Flyway migrations.
+ * Runs the real migrations against PostgreSQL in a container, validates the
+ * entity mapping against the migrated schema, and checks with EXPLAIN that
+ * each repository query shape is served by its intended index.
+ *
+ * Sequential scans are disabled for the EXPLAIN session so the assertions
+ * prove the index is usable for the query rather than depending on table size.
+ * Skipped automatically when Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class IncidentIndexPlanTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE incidents");
+            statement.execute(
+                    "INSERT INTO incidents (title, priority, status, assignee, created_at, updated_at) " +
+                    "SELECT 'Incident ' || n, " +
+                    "       (ARRAY['LOW','MEDIUM','HIGH','CRITICAL'])[1 + n % 4], " +
+                    "       (ARRAY['OPEN','IN_PROGRESS','RESOLVED','CLOSED'])[1 + n % 4], " +
+                    "       'user' || (n % 50), " +
+                    "       now() - n * interval '1 minute', now() " +
+                    "FROM generate_series(1, 5000) AS n");
+            statement.execute("ANALYZE incidents");
+        }
+    }
+
+    @Test
+    void testStatusKeysetPageUsesStatusIndexWithoutSort() throws SQLException {
+        assertThat(explain("SELECT * FROM incidents WHERE status = 'OPEN' " +
+                           "AND (created_at < now() OR (created_at = now() AND id < 100)) " +
+                           "ORDER BY created_at DESC, id DESC LIMIT 51"))
+                .contains("idx_incidents_status_created_at_id")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void testStatusAndPriorityKeysetPageUsesStatusPriorityIndexWithoutSort() throws SQLException {
+        assertThat(explain("SELECT * FROM incidents WHERE status = 'OPEN' AND priority = 'HIGH' " +
+                           "ORDER BY created_at DESC, id DESC LIMIT 51"))
+                .contains("idx_incidents_status_priority_created_at_id")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void testPriorityKeysetPageUsesPriorityIndexWithoutSort() throws SQLException {
+        assertThat(explain("SELECT * FROM incidents WHERE priority = 'CRITICAL' " +
+                           "ORDER BY created_at DESC, id DESC LIMIT 51"))
+                .contains("idx_incidents_priority_created_at_id")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void testReplacedIndexesAreDropped() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM pg_indexes WHERE indexname IN " +
+                     "('idx_incidents_status_priority_created_at', 'idx_incidents_priority_created_at')")) {
+            rs.next();
+            assertThat(rs.getInt(1)).isZero();
+        }
+    }
+
+    @Test
+    void testFindByAssigneeUsesAssigneeIndex() throws SQLException {
+        assertThat(explain("SELECT * FROM incidents WHERE assignee = 'user7'"))
+                .contains("idx_incidents_assignee_status");
+    }
+
+    @Test
+    void testFindOverdueIncidentsUsesPartialIndex() throws SQLException {
+        assertThat(explain("SELECT * FROM incidents WHERE status IN ('OPEN', 'IN_PROGRESS') " +
+                           "AND created_at < now() - interval '1 day'"))
+                .contains("idx_incidents_open_created_at");
+    }
+
+    @Test
+    void testKeysetPageUsesCreatedAtIdIndex() throws SQLException {
+        assertThat(explain("SELECT * FROM incidents " +
+                           "WHERE created_at < now() OR (created_at = now() AND id < 100) " +
+                           "ORDER BY created_at DESC, id DESC LIMIT 51"))
+                .contains("idx_incidents_created_at_id");
+    }
+
+    private String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            } finally {
+                statement.execute("RESET enable_seqscan");
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.incidenttracker.repository;
 
+import com.example.incidenttracker.dto.IncidentCursor;
+import com.example.incidenttracker.dto.IncidentFilter;
+import com.example.incidenttracker.dto.IncidentFingerprint;
+import com.example.incidenttracker.dto.IncidentResponse;
 import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -27,6 +39,9 @@ class IncidentRepositoryTest {
     @Autowired
     private IncidentRepository incidentRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Incident testIncident1;
     private Incident testIncident2;
     private Incident testIncident3;
@@ -255,6 +270,93 @@ class IncidentRepositoryTest {
         assertThat(incidentRepository.findById(savedId)).isEmpty();
     }
 
+    @Test
+    void testUpdateStatusReturningPrevious() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident1);  // OPEN, Alice
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // Act
+        Optional<Incident> previous = incidentRepository.updateStatusReturningPrevious(
+                saved.getId(), Status.RESOLVED, now);
+        Optional<Incident> missing = incidentRepository.updateStatusReturningPrevious(
+                -1L, Status.RESOLVED, now);
+
+        // Assert
+        assertThat(previous).get().satisfies(incident -> {
+            assertThat(incident.getStatus()).isEqualTo(Status.OPEN);
+            assertThat(incident.getAssignee()).isEqualTo("Alice");
+            assertThat(incident.getResolvedAt()).isNull();
+        });
+        assertThat(missing).isEmpty();
+        Incident reloaded = incidentRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(Status.RESOLVED);
+        assertThat(reloaded.getUpdatedAt()).isEqualTo(now);
+        assertThat(reloaded.getResolvedAt()).isEqualTo(now);
+        assertThat(reloaded.getVersion()).isEqualTo(previous.get().getVersion() + 1);
+    }
+
+    @Test
+    void testCompareAndSetStatus() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident2);  // IN_PROGRESS
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // Act
+        Optional<Incident> mismatch = incidentRepository.compareAndSetStatus(
+                saved.getId(), Status.OPEN, Status.CLOSED, now);
+        Optional<Incident> match = incidentRepository.compareAndSetStatus(
+                saved.getId(), Status.IN_PROGRESS, Status.CLOSED, now);
+
+        // Assert
+        assertThat(mismatch).isEmpty();
+        assertThat(match).get().extracting(Incident::getStatus).isEqualTo(Status.IN_PROGRESS);
+        assertThat(incidentRepository.findStatusById(saved.getId())).contains(Status.CLOSED);
+        assertThat(incidentRepository.findFingerprintById(saved.getId()))
+                .get().extracting(IncidentFingerprint::version).isEqualTo(1L);
+    }
+
+    @Test
+    void testUpdateStatusesReturningPrevious() {
+        // Arrange
+        Incident open = incidentRepository.save(testIncident1);        // OPEN, HIGH, Alice
+        Incident inProgress = incidentRepository.save(testIncident2);  // IN_PROGRESS
+        Incident resolved = incidentRepository.save(testIncident3);
+        IncidentFilter filter = IncidentFilter.builder().assignee("Alice").build();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // Act
+        Map<Long, IncidentState> byFilter = incidentRepository.updateStatusesReturningPrevious(
+                null, filter, Status.RESOLVED, now);
+        Map<Long, IncidentState> byIds = incidentRepository.updateStatusesReturningPrevious(
+                List.of(open.getId(), inProgress.getId(), resolved.getId()), null, Status.RESOLVED, now);
+
+        // Assert
+        assertThat(byFilter).containsExactly(
+                entry(open.getId(), new IncidentState(Status.OPEN, Priority.HIGH, "Alice")));
+        assertThat(byIds).containsOnlyKeys(inProgress.getId());
+        assertThat(incidentRepository.findById(open.getId())).get()
+                .extracting(Incident::getStatus, Incident::getResolvedAt, Incident::getVersion)
+                .containsExactly(Status.RESOLVED, now, 1L);
+    }
+
+    @Test
+    void testDeleteByIdReturning() {
+        // Arrange
+        Incident saved = incidentRepository.save(testIncident2);
+
+        // Act
+        Optional<Incident> deleted = incidentRepository.deleteByIdReturning(saved.getId());
+        Optional<Incident> again = incidentRepository.deleteByIdReturning(saved.getId());
+
+        // Assert
+        assertThat(deleted).get()
+                .extracting(Incident::getTitle, Incident::getStatus, Incident::getPriority)
+                .containsExactly("Critical Database Issue", Status.IN_PROGRESS, Priority.CRITICAL);
+        assertThat(again).isEmpty();
+        assertThat(incidentRepository.findById(saved.getId())).isEmpty();
+    }
+
     @Test
     void testFindAll() {
         // Arrange
@@ -292,4 +394,85 @@ class IncidentRepositoryTest {
         assertThat(saved.getUpdatedAt()).isNotNull();
         assertThat(saved.getCreatedAt()).isBeforeOrEqualTo(saved.getUpdatedAt());
     }
+
+    @Test
+    void testFindAllMatchingFilter() {
+        // Arrange
+        incidentRepository.save(testIncident1);  // HIGH + OPEN + Alice
+        incidentRepository.save(testIncident2);  // CRITICAL + IN_PROGRESS + Bob
+        Incident resolved = testIncident3;       // LOW + RESOLVED + Alice
+        resolved.setResolvedAt(LocalDateTime.now().minusDays(2));
+        incidentRepository.save(resolved);
+
+        IncidentFilter byAssignee = IncidentFilter.builder().assignee("Alice").build();
+        IncidentFilter resolvedRecently = IncidentFilter.builder()
+                .assignee("Alice")
+                .resolvedFrom(LocalDateTime.now().minusDays(3))
+                .resolvedTo(LocalDateTime.now())
+                .build();
+        IncidentFilter noMatch = IncidentFilter.builder()
+                .status(Status.OPEN)
+                .priority(Priority.CRITICAL)
+                .build();
+
+        // Act & Assert
+        assertThat(incidentRepository.findAll(IncidentSpecifications.matching(byAssignee))).hasSize(2);
+        assertThat(incidentRepository.findAll(IncidentSpecifications.matching(resolvedRecently)))
+                .extracting(Incident::getTitle)
+                .containsExactly("Low Priority Enhancement");
+        assertThat(incidentRepository.findAll(IncidentSpecifications.matching(noMatch))).isEmpty();
+        assertThat(incidentRepository.findAll(IncidentSpecifications.matching(null))).hasSize(3);
+    }
+
+    @Test
+    void testFindResponsesByKeyset() {
+        // Arrange
+        incidentRepository.save(testIncident1);
+        incidentRepository.save(testIncident2);
+        incidentRepository.save(testIncident3);
+        entityManager.flush();
+        entityManager.clear();
+
+        Sort sort = Sort.by(Sort.Direction.ASC, "createdAt", "id");
+        IncidentFilter all = IncidentFilter.none();
+
+        // Act
+        List<IncidentResponse> firstPage = incidentRepository.findResponses(
+                IncidentSpecifications.matching(all), sort, 2);
+        IncidentCursor cursor = IncidentCursor.of(firstPage.get(1));
+        List<IncidentResponse> secondPage = incidentRepository.findResponses(
+                IncidentSpecifications.matching(all)
+                        .and(IncidentSpecifications.after(cursor, Sort.Direction.ASC)),
+                sort, 2);
+
+        // Assert
+        assertThat(firstPage).extracting(IncidentResponse::getTitle)
+                .containsExactly("High Priority Incident", "Critical Database Issue");
+        assertThat(firstPage.get(0).getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(firstPage.get(0).getAssignee()).isEqualTo("Alice");
+        assertThat(secondPage).extracting(IncidentResponse::getTitle)
+                .containsExactly("Low Priority Enhancement");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void testStreamResponsesForExport() {
+        // Arrange
+        incidentRepository.save(testIncident1);  // HIGH
+        incidentRepository.save(testIncident2);  // CRITICAL
+        incidentRepository.save(testIncident3);  // LOW
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<IncidentResponse> exported;
+        try (Stream<IncidentResponse> stream = incidentRepository.streamResponsesForExport(null, Priority.HIGH)) {
+            exported = stream.toList();
+        }
+
+        // Assert
+        assertThat(exported).extracting(IncidentResponse::getTitle)
+                .containsExactly("High Priority Incident");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
 }
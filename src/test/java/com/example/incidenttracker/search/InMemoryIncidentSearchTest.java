@@ -0,0 +1,177 @@
+package com.example.incidenttracker.search;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InMemoryIncidentSearch.
+ * Verifies term matching, ranking, highlighting, and that the index
+ * follows updates and deletes.
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryIncidentSearchTest {
+
+    @Mock
+    private IncidentRepository incidentRepository;
+
+    private InMemoryIncidentSearch incidentSearch;
+
+    private final List<IncidentResponse> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        incidentSearch = new InMemoryIncidentSearch(incidentRepository);
+        lenient().when(incidentRepository.findResponsesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return stored.stream().filter(incident -> ids.contains(incident.getId())).toList();
+        });
+    }
+
+    @Test
+    void testSearch_RequiresEveryTermAndRanksTitleMatchesFirst() {
+        // Arrange
+        save(incident(1L, "Database failover", "Primary hit a TIMEOUT, clients saw 503"));
+        save(incident(2L, "Timeout on payment API", "503 from the upstream"));
+        save(incident(3L, "Timeout in search", null));
+
+        // Act
+        List<IncidentSearchHit> hits = incidentSearch.search("timeout 503", 10);
+
+        // Assert
+        assertThat(hits).extracting(hit -> hit.getIncident().getId()).containsExactly(2L, 1L);
+        assertThat(hits.get(0).getRank()).isGreaterThan(hits.get(1).getRank());
+        assertThat(hits.get(1).getDescriptionHighlight())
+                .isEqualTo("Primary hit a <mark>TIMEOUT</mark>, clients saw <mark>503</mark>");
+    }
+
+    @Test
+    void testSearch_KeepsBestHitsUpToLimit() {
+        // Arrange
+        save(incident(1L, "Disk full", "disk"));
+        save(incident(2L, "Disk latency", "disk disk"));
+        save(incident(3L, "Network", "disk"));
+
+        // Act & Assert
+        assertThat(incidentSearch.search("disk", 2))
+                .extracting(hit -> hit.getIncident().getId())
+                .containsExactly(2L, 1L);
+        assertThat(incidentSearch.search("nothing", 2)).isEmpty();
+        assertThat(incidentSearch.search("!!", 2)).isEmpty();
+    }
+
+    @Test
+    void testRecord_ReplacesTermsAndRemoveDropsIncident() {
+        // Arrange
+        save(incident(1L, "Cache stampede", null));
+        save(incident(2L, "Cache eviction", null));
+
+        // Act
+        incidentSearch.record(incident(1L, "Queue backlog", null));
+        incidentSearch.remove(2L);
+
+        // Assert
+        assertThat(incidentSearch.search("cache", 10)).isEmpty();
+        assertThat(incidentSearch.search("backlog", 10)).hasSize(1);
+    }
+
+    @Test
+    void testRebuild_IndexesStoredIncidents() {
+        // Arrange
+        when(incidentRepository.streamResponsesForExport(null, null))
+                .thenReturn(Stream.of(incident(1L, "Certificate expired", "TLS handshake failures")));
+        stored.add(incident(1L, "Certificate expired", "TLS handshake failures"));
+
+        // Act
+        incidentSearch.rebuild();
+
+        // Assert
+        assertThat(incidentSearch.search("tls", 10))
+                .extracting(IncidentSearchHit::getTitleHighlight)
+                .containsExactly("Certificate expired");
+    }
+
+    @Test
+    void testRebuild_KeepsUpdatesCommittedWhileStreaming() {
+        // Arrange
+        stored.add(incident(1L, "Certificate expired", null));
+        stored.add(incident(2L, "Renamed alert", null));
+        stored.add(incident(3L, "Late arrival", null));
+        Stream<IncidentResponse> snapshot = Stream.of(
+                        incident(1L, "Certificate expired", null),
+                        incident(2L, "Stale alert", null),
+                        incident(4L, "Deleted alert", null))
+                .peek(incident -> {
+                    if (incident.getId() == 1L) {
+                        // committed after the stream's snapshot was taken
+                        incidentSearch.record(incident(2L, "Renamed alert", null));
+                        incidentSearch.record(incident(3L, "Late arrival", null));
+                        incidentSearch.remove(4L);
+                    }
+                });
+        when(incidentRepository.streamResponsesForExport(null, null)).thenReturn(snapshot);
+
+        // Act
+        incidentSearch.rebuild();
+
+        // Assert
+        assertThat(incidentSearch.search("late", 10)).extracting(hit -> hit.getIncident().getId()).containsExactly(3L);
+        assertThat(incidentSearch.search("alert", 10)).extracting(hit -> hit.getIncident().getId()).containsExactly(2L);
+        assertThat(incidentSearch.search("stale", 10)).isEmpty();
+        assertThat(incidentSearch.search("certificate", 10)).hasSize(1);
+    }
+
+    @Test
+    void testHighlight_WrapsWholeTermsOnly() {
+        assertThat(InMemoryIncidentSearch.highlight("timeouts and Timeout", Set.of("timeout")))
+                .isEqualTo("timeouts and <mark>Timeout</mark>");
+        assertThat(InMemoryIncidentSearch.highlight(null, Set.of("timeout"))).isNull();
+    }
+
+    @Test
+    void testSearch_EscapesHtmlInHighlights() {
+        // Arrange
+        save(incident(1L, "<script>alert('timeout')</script>", "a & b \"timeout\""));
+
+        // Act
+        IncidentSearchHit hit = incidentSearch.search("timeout", 10).get(0);
+
+        // Assert
+        assertThat(hit.getTitleHighlight())
+                .isEqualTo("&lt;script&gt;alert(&#39;<mark>timeout</mark>&#39;)&lt;/script&gt;");
+        assertThat(hit.getDescriptionHighlight()).isEqualTo("a &amp; b &quot;<mark>timeout</mark>&quot;");
+        assertThat(hit.getIncident().getTitle()).isEqualTo("<script>alert('timeout')</script>");
+    }
+
+    private void save(IncidentResponse incident) {
+        stored.add(incident);
+        incidentSearch.record(incident);
+    }
+
+    private static IncidentResponse incident(Long id, String title, String description) {
+        return IncidentResponse.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .priority(Priority.MEDIUM)
+                .status(Status.OPEN)
+                .build();
+    }
+}
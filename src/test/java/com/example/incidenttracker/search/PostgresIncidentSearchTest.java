@@ -0,0 +1,33 @@
+package com.example.incidenttracker.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PostgresIncidentSearch.
+ * Verifies that ts_headline output is escaped before highlight tags are added.
+ */
+class PostgresIncidentSearchTest {
+
+    @Test
+    void testToHtml_EscapesTextAndReplacesSelectors() {
+        // Arrange
+        String headline = "<script>alert(1)</script> \u0002timeout\u0003 & more";
+
+        // Act
+        String html = PostgresIncidentSearch.toHtml(headline);
+
+        // Assert
+        assertThat(html).isEqualTo("&lt;script&gt;alert(1)&lt;/script&gt; <mark>timeout</mark> &amp; more");
+        assertThat(PostgresIncidentSearch.toHtml(null)).isNull();
+    }
+
+    @Test
+    void testSearchSql_StripsSelectorCharactersFromStoredText() {
+        assertThat(PostgresIncidentSearch.SEARCH_SQL)
+                .contains("replace(replace(title, chr(2), ''), chr(3), '')")
+                .contains("replace(replace(description, chr(2), ''), chr(3), '')")
+                .doesNotContain(IncidentSearch.HIGHLIGHT_START);
+    }
+}
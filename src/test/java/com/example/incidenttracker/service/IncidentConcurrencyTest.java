@@ -0,0 +1,140 @@
+package com.example.incidenttracker.service;
+
+import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.exception.ConflictException;
+import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Stress tests for concurrent writes to one incident.
+ * Not transactional: every thread commits its own writes against the H2
+ * database, so the optimistic version checks and conditional UPDATEs race for real.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class IncidentConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private IncidentService incidentService;
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        incidentRepository.deleteAll();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        incidentRepository.deleteAll();
+    }
+
+    @Test
+    void testTransitionStatus_ExactlyOneConcurrentTransitionWins() throws Exception {
+        // Arrange
+        Long id = incidentService.createIncident(request("Contended", "0")).getId();
+
+        // Act
+        List<Boolean> won = runTogether(() -> {
+            try {
+                incidentService.transitionStatus(id, Status.OPEN, Status.IN_PROGRESS);
+                return true;
+            } catch (ConflictException e) {
+                return false;
+            }
+        });
+
+        // Assert
+        assertThat(won).containsOnlyOnce(true);
+        Incident incident = incidentRepository.findById(id).orElseThrow();
+        assertThat(incident.getStatus()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(incident.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void testUpdateIncident_WithExpectedVersionAndRetry_LosesNoUpdates() throws Exception {
+        // Arrange
+        int incrementsPerThread = 10;
+        Long id = incidentService.createIncident(request("Counter", "0")).getId();
+
+        // Act: read-modify-write a counter kept in the description, retrying on conflict
+        runTogether(() -> {
+            int conflicts = 0;
+            for (int done = 0; done < incrementsPerThread; ) {
+                Incident current = incidentRepository.findById(id).orElseThrow();
+                int next = Integer.parseInt(current.getDescription()) + 1;
+                try {
+                    incidentService.updateIncident(id, request("Counter", String.valueOf(next)), current.getVersion());
+                    done++;
+                } catch (ConflictException | OptimisticLockingFailureException e) {
+                    conflicts++;
+                }
+            }
+            return conflicts;
+        });
+
+        // Assert
+        int total = THREADS * incrementsPerThread;
+        Incident incident = incidentRepository.findById(id).orElseThrow();
+        assertThat(incident.getDescription()).isEqualTo(String.valueOf(total));
+        assertThat(incident.getVersion()).isEqualTo((long) total);
+    }
+
+    /**
+     * Run the task on every thread at once and collect the results.
+     */
+    private <T> List<T> runTogether(Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static IncidentRequest request(String title, String description) {
+        return IncidentRequest.builder()
+                .title(title)
+                .description(description)
+                .priority(Priority.HIGH)
+                .status(Status.OPEN)
+                .build();
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.incidenttracker.service;
 
+import com.example.incidenttracker.cache.IncidentCache;
+import com.example.incidenttracker.dto.IncidentFingerprint;
 import com.example.incidenttracker.dto.IncidentRequest;
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.dto.IncidentSearchHit;
+import com.example.incidenttracker.exception.ConflictException;
 import com.example.incidenttracker.exception.ResourceNotFoundException;
+import com.example.incidenttracker.exception.ValidationException;
 import com.example.incidenttracker.model.Incident;
+import com.example.incidenttracker.model.IncidentState;
 import com.example.incidenttracker.model.Priority;
 import com.example.incidenttracker.model.Status;
 import com.example.incidenttracker.repository.IncidentRepository;
+import com.example.incidenttracker.search.IncidentSearch;
 import com.example.incidenttracker.service.impl.IncidentServiceImpl;
+import com.example.incidenttracker.stats.IncidentCounters;
+import com.example.incidenttracker.stats.OverdueIncidents;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -35,6 +46,18 @@ class IncidentServiceImplTest {
     @Mock
     private IncidentRepository incidentRepository;
 
+    @Mock
+    private IncidentCache incidentCache;
+
+    @Mock
+    private IncidentCounters incidentCounters;
+
+    @Mock
+    private OverdueIncidents overdueIncidents;
+
+    @Mock
+    private IncidentSearch incidentSearch;
+
     @InjectMocks
     private IncidentServiceImpl incidentService;
 
@@ -52,6 +75,7 @@ class IncidentServiceImplTest {
                 .assignee("John Doe")
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .version(0L)
                 .build();
 
         testRequest = IncidentRequest.builder()
@@ -116,6 +140,25 @@ class IncidentServiceImplTest {
                 .hasMessageContaining("Incident not found with id: 999");
     }
 
+    @Test
+    void testGetIncidentFingerprint_ReadsOnlyUpdatedAtAndVersion() {
+        // Arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6_000);
+        when(incidentRepository.findFingerprintById(1L))
+                .thenReturn(Optional.of(new IncidentFingerprint(1, updatedAt, 7L)));
+        when(incidentRepository.findFingerprintById(999L)).thenReturn(Optional.empty());
+
+        // Act
+        IncidentFingerprint result = incidentService.getIncidentFingerprint(1L);
+
+        // Assert
+        assertThat(result.eTag()).isEqualTo("\"v7\"");
+        assertThat(IncidentFingerprint.versionOf(result.eTag())).isEqualTo(7L);
+        verify(incidentRepository, never()).findById(any());
+        assertThatThrownBy(() -> incidentService.getIncidentFingerprint(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
     @Test
     void testCreateIncident() {
         // Arrange
@@ -173,7 +216,7 @@ class IncidentServiceImplTest {
     void testUpdateIncident() {
         // Arrange
         when(incidentRepository.findById(1L)).thenReturn(Optional.of(testIncident));
-        when(incidentRepository.save(any(Incident.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(incidentRepository.saveAndFlush(any(Incident.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         IncidentRequest updateRequest = IncidentRequest.builder()
                 .title("Updated Title")
@@ -190,7 +233,7 @@ class IncidentServiceImplTest {
         assertThat(result.getTitle()).isEqualTo("Updated Title");
         assertThat(result.getPriority()).isEqualTo(Priority.CRITICAL);
         verify(incidentRepository, times(1)).findById(1L);
-        verify(incidentRepository, times(1)).save(any(Incident.class));
+        verify(incidentRepository, times(1)).saveAndFlush(any(Incident.class));
     }
 
     @Test
@@ -204,17 +247,77 @@ class IncidentServiceImplTest {
     }
 
     @Test
-    void testUpdateStatus() {
+    void testUpdateIncident_WithStaleVersion_ThrowsConflictWithoutWriting() {
         // Arrange
+        testIncident.setVersion(3L);
         when(incidentRepository.findById(1L)).thenReturn(Optional.of(testIncident));
-        when(incidentRepository.save(any(Incident.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        assertThatThrownBy(() -> incidentService.updateIncident(1L, testRequest, 2L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("version 3");
+        verify(incidentRepository, never()).saveAndFlush(any(Incident.class));
+        verify(incidentCounters, never()).record(any(), any());
+    }
+
+    @Test
+    void testTransitionStatus_WhenExpectedStatusMatches() {
+        // Arrange
+        when(incidentRepository.compareAndSetStatus(eq(1L), eq(Status.OPEN), eq(Status.IN_PROGRESS), any()))
+                .thenReturn(Optional.of(testIncident));
 
         // Act
-        Incident result = incidentService.updateStatus(1L, Status.RESOLVED);
+        Incident result = incidentService.transitionStatus(1L, Status.OPEN, Status.IN_PROGRESS);
 
         // Assert
-        assertThat(result.getStatus()).isEqualTo(Status.RESOLVED);
-        verify(incidentRepository, times(1)).save(any(Incident.class));
+        assertThat(result.getStatus()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(result.getVersion()).isEqualTo(1L);
+        verify(incidentCounters).record(
+                new IncidentState(Status.OPEN, Priority.HIGH, "John Doe"),
+                new IncidentState(Status.IN_PROGRESS, Priority.HIGH, "John Doe"));
+        verify(incidentRepository, never()).findStatusById(any());
+    }
+
+    @Test
+    void testTransitionStatus_WhenStatusDiffers_ThrowsConflict() {
+        // Arrange
+        when(incidentRepository.compareAndSetStatus(eq(1L), eq(Status.OPEN), eq(Status.IN_PROGRESS), any()))
+                .thenReturn(Optional.empty());
+        when(incidentRepository.findStatusById(1L)).thenReturn(Optional.of(Status.RESOLVED));
+
+        // Act & Assert
+        assertThatThrownBy(() -> incidentService.transitionStatus(1L, Status.OPEN, Status.IN_PROGRESS))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("RESOLVED");
+        verify(incidentCounters, never()).record(any(), any());
+    }
+
+    @Test
+    void testTransitionStatus_NotFound() {
+        // Arrange
+        when(incidentRepository.compareAndSetStatus(eq(999L), eq(Status.OPEN), eq(Status.CLOSED), any()))
+                .thenReturn(Optional.empty());
+        when(incidentRepository.findStatusById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> incidentService.transitionStatus(999L, Status.OPEN, Status.CLOSED))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testUpdateStatus() {
+        // Arrange
+        when(incidentRepository.updateStatusReturningPrevious(eq(1L), eq(Status.IN_PROGRESS), any()))
+                .thenReturn(Optional.of(testIncident));
+
+        // Act
+        Incident result = incidentService.updateStatus(1L, Status.IN_PROGRESS);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(result.getResolvedAt()).isNull();
+        verify(incidentRepository, never()).findById(any());
+        verify(incidentRepository, never()).save(any(Incident.class));
     }
 
     @Test
@@ -227,30 +330,25 @@ class IncidentServiceImplTest {
                 .status(Status.OPEN)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .version(0L)
                 .build();
 
-        when(incidentRepository.findById(1L)).thenReturn(Optional.of(incident));
-        when(incidentRepository.save(any(Incident.class))).thenAnswer(invocation -> {
-            Incident arg = invocation.getArgument(0);
-            // Simulate @PreUpdate hook
-            if (arg.getStatus() == Status.RESOLVED && arg.getResolvedAt() == null) {
-                arg.setResolvedAt(LocalDateTime.now());
-            }
-            return arg;
-        });
+        when(incidentRepository.updateStatusReturningPrevious(eq(1L), eq(Status.RESOLVED), any()))
+                .thenReturn(Optional.of(incident));
 
         // Act
         Incident result = incidentService.updateStatus(1L, Status.RESOLVED);
 
         // Assert
         assertThat(result.getStatus()).isEqualTo(Status.RESOLVED);
-        assertThat(result.getResolvedAt()).isNotNull();
+        assertThat(result.getResolvedAt()).isNotNull().isEqualTo(result.getUpdatedAt());
     }
 
     @Test
     void testUpdateStatus_NotFound() {
         // Arrange
-        when(incidentRepository.findById(999L)).thenReturn(Optional.empty());
+        when(incidentRepository.updateStatusReturningPrevious(eq(999L), eq(Status.CLOSED), any()))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> incidentService.updateStatus(999L, Status.CLOSED))
@@ -260,20 +358,21 @@ class IncidentServiceImplTest {
     @Test
     void testDeleteIncident() {
         // Arrange
-        when(incidentRepository.findById(1L)).thenReturn(Optional.of(testIncident));
-        doNothing().when(incidentRepository).delete(testIncident);
+        when(incidentRepository.deleteByIdReturning(1L)).thenReturn(Optional.of(testIncident));
 
         // Act
         incidentService.deleteIncident(1L);
 
         // Assert
-        verify(incidentRepository, times(1)).delete(testIncident);
+        verify(incidentRepository, never()).findById(any());
+        verify(incidentCounters).record(new IncidentState(Status.OPEN, Priority.HIGH, "John Doe"), null);
+        verify(incidentSearch).remove(1L);
     }
 
     @Test
     void testDeleteIncident_NotFound() {
         // Arrange
-        when(incidentRepository.findById(999L)).thenReturn(Optional.empty());
+        when(incidentRepository.deleteByIdReturning(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> incidentService.deleteIncident(999L))
@@ -337,6 +436,51 @@ class IncidentServiceImplTest {
         verify(incidentRepository, times(1)).findOverdueIncidents(any(LocalDateTime.class));
     }
 
+    @Test
+    void testGetOverdueIncidents_ReadsOverdueSet() {
+        // Arrange
+        List<IncidentResponse> overdue = List.of(IncidentResponse.fromEntity(testIncident));
+        when(overdueIncidents.find(7, Priority.HIGH)).thenReturn(overdue);
+
+        // Act
+        List<IncidentResponse> result = incidentService.getOverdueIncidents(7, Priority.HIGH);
+
+        // Assert
+        assertThat(result).isEqualTo(overdue);
+        verifyNoInteractions(incidentRepository);
+    }
+
+    @Test
+    void testGetOverdueIncidents_NegativeDays_ThrowsValidationException() {
+        // Act & Assert
+        assertThatThrownBy(() -> incidentService.getOverdueIncidents(-1, null))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void testSearchIncidents_StripsQueryAndCapsLimit() {
+        // Arrange
+        List<IncidentSearchHit> hits = List.of(IncidentSearchHit.builder()
+                .incident(IncidentResponse.fromEntity(testIncident))
+                .rank(0.5)
+                .build());
+        when(incidentSearch.search("timeout", IncidentService.MAX_PAGE_SIZE)).thenReturn(hits);
+
+        // Act
+        List<IncidentSearchHit> result = incidentService.searchIncidents("  timeout ", 10_000);
+
+        // Assert
+        assertThat(result).isEqualTo(hits);
+    }
+
+    @Test
+    void testSearchIncidents_BlankQuery_ThrowsValidationException() {
+        // Act & Assert
+        assertThatThrownBy(() -> incidentService.searchIncidents(" ", 20))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(incidentSearch);
+    }
+
     @Test
     void testCreateIncident_ValidatesInput() {
         // Arrange
@@ -353,7 +497,8 @@ class IncidentServiceImplTest {
     void testMultipleOperations_Transaction() {
         // Arrange
         when(incidentRepository.findById(1L)).thenReturn(Optional.of(testIncident));
-        when(incidentRepository.save(any(Incident.class))).thenReturn(testIncident);
+        when(incidentRepository.updateStatusReturningPrevious(eq(1L), eq(Status.IN_PROGRESS), any()))
+                .thenReturn(Optional.of(Incident.builder().id(1L).title("Test Incident").version(0L).build()));
 
         // Act
         Incident retrieved = incidentService.getIncidentById(1L);
@@ -362,6 +507,52 @@ class IncidentServiceImplTest {
         // Assert
         assertThat(retrieved).isNotNull();
         assertThat(updated).isNotNull();
-        verify(incidentRepository, times(2)).findById(1L);
+        verify(incidentRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testGetIncidentById_CacheHit_SkipsRepository() {
+        // Arrange
+        when(incidentCache.getIncident(1L)).thenReturn(testIncident);
+
+        // Act
+        Incident result = incidentService.getIncidentById(1L);
+
+        // Assert
+        assertThat(result).isSameAs(testIncident);
+        verify(incidentRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetIncidentsByIds_LoadsOnlyCacheMissesInOneCall() {
+        // Arrange
+        Incident other = Incident.builder().id(2L).title("Other Incident").build();
+        when(incidentCache.getIncident(1L)).thenReturn(testIncident);
+        when(incidentRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(other));
+
+        // Act
+        Map<Long, Incident> result = incidentService.getIncidentsByIds(List.of(1L, 2L, 3L, 2L));
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(2L)).isSameAs(other);
+        verify(incidentRepository, times(1)).findAllById(any());
+        verify(incidentCache).putIncident(eq(other), anyLong());
+    }
+
+    @Test
+    void testUpdateStatus_InvalidatesCacheAndUpdatesCounters() {
+        // Arrange
+        when(incidentRepository.updateStatusReturningPrevious(eq(1L), eq(Status.RESOLVED), any()))
+                .thenReturn(Optional.of(testIncident));
+
+        // Act
+        incidentService.updateStatus(1L, Status.RESOLVED);
+
+        // Assert
+        IncidentState before = new IncidentState(Status.OPEN, Priority.HIGH, "John Doe");
+        IncidentState after = new IncidentState(Status.RESOLVED, Priority.HIGH, "John Doe");
+        verify(incidentCache).invalidate(1L, before, after);
+        verify(incidentCounters).record(before, after);
     }
 }
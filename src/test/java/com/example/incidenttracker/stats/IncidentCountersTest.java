@@ -0,0 +1,110 @@
+package com.example.incidenttracker.stats;
+
+import com.example.incidenttracker.dto.IncidentCount;
+import com.example.incidenttracker.dto.IncidentStatsResponse;
+import com.example.incidenttracker.model.IncidentState;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IncidentCounters.
+ * Verifies incremental updates from writes, roll-ups in the snapshot,
+ * and that reconciliation replaces the counts with the database aggregate.
+ */
+@ExtendWith(MockitoExtension.class)
+class IncidentCountersTest {
+
+    @Mock
+    private IncidentRepository incidentRepository;
+
+    @InjectMocks
+    private IncidentCounters incidentCounters;
+
+    @Test
+    void testRecord_CreateUpdateDelete() {
+        // Arrange
+        IncidentState open = new IncidentState(Status.OPEN, Priority.HIGH, "Alice");
+        IncidentState resolved = new IncidentState(Status.RESOLVED, Priority.HIGH, "Alice");
+        IncidentState unassigned = new IncidentState(Status.OPEN, Priority.LOW, null);
+
+        // Act
+        incidentCounters.record(null, open);
+        incidentCounters.record(null, open);
+        incidentCounters.record(null, unassigned);
+        incidentCounters.record(open, resolved);
+        incidentCounters.record(unassigned, null);
+
+        // Assert
+        IncidentStatsResponse stats = incidentCounters.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getBreakdown()).containsExactlyInAnyOrder(
+                new IncidentStatsResponse.Cell(Status.OPEN, Priority.HIGH, "Alice", 1),
+                new IncidentStatsResponse.Cell(Status.RESOLVED, Priority.HIGH, "Alice", 1));
+        assertThat(stats.getByStatus()).contains(
+                new IncidentStatsResponse.StatusCount(Status.OPEN, 1),
+                new IncidentStatsResponse.StatusCount(Status.RESOLVED, 1),
+                new IncidentStatsResponse.StatusCount(Status.CLOSED, 0));
+        assertThat(stats.getByPriority()).contains(
+                new IncidentStatsResponse.PriorityCount(Priority.HIGH, 2));
+        assertThat(stats.getByAssignee()).containsExactly(
+                new IncidentStatsResponse.AssigneeCount("Alice", 2));
+    }
+
+    @Test
+    void testReconcile_ReplacesCountsWithAggregate() {
+        // Arrange
+        incidentCounters.record(null, new IncidentState(Status.CLOSED, Priority.LOW, "Stale"));
+        when(incidentRepository.countByStatusPriorityAndAssignee()).thenReturn(List.of(
+                count(Status.OPEN, Priority.CRITICAL, "Bob", 3),
+                count(Status.IN_PROGRESS, Priority.MEDIUM, null, 2)));
+
+        // Act
+        incidentCounters.reconcile();
+
+        // Assert
+        IncidentStatsResponse stats = incidentCounters.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(5);
+        assertThat(stats.getReconciledAt()).isNotNull();
+        assertThat(stats.getByAssignee()).containsExactlyInAnyOrder(
+                new IncidentStatsResponse.AssigneeCount("Bob", 3),
+                new IncidentStatsResponse.AssigneeCount(null, 2));
+        assertThat(stats.getBreakdown()).noneMatch(cell -> "Stale".equals(cell.assignee()));
+    }
+
+    @Test
+    void testEmptyAssignee_IsKeptApartFromUnassigned() {
+        // Arrange
+        when(incidentRepository.countByStatusPriorityAndAssignee()).thenReturn(List.of(
+                count(Status.OPEN, Priority.LOW, "", 2),
+                count(Status.OPEN, Priority.LOW, null, 1)));
+
+        // Act
+        incidentCounters.reconcile();
+        incidentCounters.record(null, new IncidentState(Status.OPEN, Priority.LOW, ""));
+
+        // Assert
+        assertThat(incidentCounters.snapshot().getByAssignee()).containsExactlyInAnyOrder(
+                new IncidentStatsResponse.AssigneeCount("", 3),
+                new IncidentStatsResponse.AssigneeCount(null, 1));
+    }
+
+    private static IncidentCount count(Status status, Priority priority, String assignee, long total) {
+        return new IncidentCount() {
+            public Status getStatus() { return status; }
+            public Priority getPriority() { return priority; }
+            public String getAssignee() { return assignee; }
+            public long getTotal() { return total; }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.incidenttracker.stats;
+
+import com.example.incidenttracker.dto.IncidentResponse;
+import com.example.incidenttracker.model.Priority;
+import com.example.incidenttracker.model.Status;
+import com.example.incidenttracker.repository.IncidentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OverdueIncidents.
+ * Verifies lookups by age and priority, updates from committed writes,
+ * and that scans resume from the watermark while rebuilds start over.
+ */
+@ExtendWith(MockitoExtension.class)
+class OverdueIncidentsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    private IncidentRepository incidentRepository;
+
+    private OverdueIncidents overdueIncidents;
+
+    @BeforeEach
+    void setUp() {
+        overdueIncidents = new OverdueIncidents(incidentRepository, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testFind_ByAgeAndPriority() {
+        // Arrange
+        overdueIncidents.record(incident(1L, Priority.HIGH, Status.OPEN, 10));
+        overdueIncidents.record(incident(2L, Priority.LOW, Status.IN_PROGRESS, 20));
+        overdueIncidents.record(incident(3L, Priority.HIGH, Status.OPEN, 2));
+        overdueIncidents.record(incident(4L, Priority.HIGH, Status.RESOLVED, 30));
+
+        // Act & Assert
+        assertThat(overdueIncidents.find(7, null)).extracting(IncidentResponse::getId).containsExactly(2L, 1L);
+        assertThat(overdueIncidents.find(7, Priority.HIGH)).extracting(IncidentResponse::getId).containsExactly(1L);
+        assertThat(overdueIncidents.find(1, Priority.HIGH)).extracting(IncidentResponse::getId).containsExactly(1L, 3L);
+        assertThat(overdueIncidents.find(0, Priority.CRITICAL)).isEmpty();
+    }
+
+    @Test
+    void testRecord_DropsAndMovesEntries() {
+        // Arrange
+        overdueIncidents.record(incident(1L, Priority.HIGH, Status.OPEN, 10));
+        overdueIncidents.record(incident(2L, Priority.HIGH, Status.OPEN, 10));
+        overdueIncidents.record(incident(3L, Priority.HIGH, Status.OPEN, 10));
+
+        // Act
+        overdueIncidents.record(incident(1L, Priority.LOW, Status.OPEN, 10));
+        overdueIncidents.recordStatus(List.of(2L), Status.IN_PROGRESS);
+        overdueIncidents.recordStatus(List.of(3L), Status.CLOSED);
+
+        // Assert
+        assertThat(overdueIncidents.find(7, Priority.HIGH))
+                .extracting(IncidentResponse::getId, IncidentResponse::getStatus)
+                .containsExactly(tuple(2L, Status.IN_PROGRESS));
+        assertThat(overdueIncidents.find(7, Priority.LOW)).extracting(IncidentResponse::getId).containsExactly(1L);
+
+        overdueIncidents.remove(1L);
+        assertThat(overdueIncidents.find(7, null)).extracting(IncidentResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    void testScan_ResumesFromWatermark() {
+        // Arrange
+        IncidentResponse first = incident(1L, Priority.HIGH, Status.OPEN, 10);
+        IncidentResponse second = incident(2L, Priority.LOW, Status.OPEN, 9);
+        IncidentResponse third = incident(3L, Priority.MEDIUM, Status.OPEN, 8);
+        when(incidentRepository.findActive(any(Limit.class))).thenReturn(List.of(first, second));
+        when(incidentRepository.findActiveAfter(second.getCreatedAt(), second.getId(), Limit.of(2)))
+                .thenReturn(List.of(third));
+        when(incidentRepository.findActiveAfter(third.getCreatedAt().minusMinutes(1), Long.MIN_VALUE, Limit.of(2)))
+                .thenReturn(List.of(third));
+
+        // Act
+        overdueIncidents.scan();
+        overdueIncidents.scan();
+
+        // Assert
+        assertThat(overdueIncidents.find(7, null)).extracting(IncidentResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(overdueIncidents.scannedAt()).isNotNull();
+        verify(incidentRepository, times(1)).findActive(any(Limit.class));
+    }
+
+    @Test
+    void testRebuild_ReplacesEntries() {
+        // Arrange
+        overdueIncidents.record(incident(1L, Priority.HIGH, Status.OPEN, 10));
+        when(incidentRepository.findActive(any(Limit.class)))
+                .thenReturn(List.of(incident(2L, Priority.HIGH, Status.OPEN, 5)));
+
+        // Act
+        overdueIncidents.rebuild();
+
+        // Assert
+        assertThat(overdueIncidents.find(1, null)).extracting(IncidentResponse::getId).containsExactly(2L);
+    }
+
+    private static IncidentResponse incident(Long id, Priority priority, Status status, int daysOld) {
+        return IncidentResponse.builder()
+                .id(id)
+                .title("Incident " + id)
+                .priority(priority)
+                .status(status)
+                .createdAt(NOW.minusDays(daysOld))
+                .updatedAt(NOW)
+                .build();
+    }
+}